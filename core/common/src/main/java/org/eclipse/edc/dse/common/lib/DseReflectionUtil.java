@@ -18,18 +18,39 @@ import org.eclipse.edc.util.reflection.PathItem;
 import org.eclipse.edc.util.reflection.ReflectionException;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+/**
+ * Resolves property paths against objects, maps and lists.
+ *
+ * <p>Parsed paths and field getters are cached: a path is parsed once, and the field of a class is looked up and made
+ * accessible once, then read through a {@link MethodHandle}. Both caches are bounded, since paths come from queries.
+ */
 public final class DseReflectionUtil {
 
     private static final Pattern ARRAY_INDEXER_PATTERN = Pattern.compile(".*\\[([0-9])+\\]");
     private static final String OPENING_BRACKET = "[";
     private static final String CLOSING_BRACKET = "]";
+    private static final int MAX_CACHED_PATHS = 1024;
+    private static final int MAX_CACHED_FIELDS_PER_CLASS = 256;
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Map<String, List<Segment>> COMPILED_PATHS = new ConcurrentHashMap<>();
+    private static final ClassValue<Map<String, FieldAccessor>> FIELD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     private DseReflectionUtil() {
     }
@@ -59,8 +80,18 @@ public final class DseReflectionUtil {
         Objects.requireNonNull(propertyName, "propertyName");
         Objects.requireNonNull(object, "object");
 
-        var path = PathItem.parse(propertyName);
-        return getFieldValue(path, object);
+        return getFieldValue(compile(propertyName), object);
+    }
+
+    private static List<Segment> compile(String propertyName) {
+        var compiled = COMPILED_PATHS.get(propertyName);
+        if (compiled == null) {
+            compiled = PathItem.parse(propertyName).stream().map(item -> Segment.of(item.toString())).toList();
+            if (COMPILED_PATHS.size() < MAX_CACHED_PATHS) {
+                COMPILED_PATHS.putIfAbsent(propertyName, compiled);
+            }
+        }
+        return compiled;
     }
     /**
      * Resolves a property value from an element within a list context.
@@ -126,19 +157,19 @@ public final class DseReflectionUtil {
      * @return the resolved value, or {@code null} if a nested segment is null
      * @throws IndexOutOfBoundsException if an array index is out of range
      */
-    private static <T> T getFieldValue(List<PathItem> path, Object object) {
+    private static <T> T getFieldValue(List<Segment> path, Object object) {
         var first = path.get(0);
 
         if (path.size() > 1) {
             return resolveNestedPath(first, path, object);
-        } else if (ARRAY_INDEXER_PATTERN.matcher(first.toString()).matches()) {
-            return resolveArrayIndexer(first.toString(), object);
+        } else if (first.isArrayIndexer()) {
+            return resolveArrayIndexer(first, object);
         } else {
-            return resolveSingleSegment(first.toString(), object);
+            return resolveSingleSegment(first.name(), object);
         }
     }
 
-    private static <T> T resolveNestedPath(PathItem first, List<PathItem> path, Object object) {
+    private static <T> T resolveNestedPath(Segment first, List<Segment> path, Object object) {
         var nested = getFieldValue(List.of(first), object);
         if (nested == null) {
             return null;
@@ -146,13 +177,9 @@ public final class DseReflectionUtil {
         return getFieldValue(path.subList(1, path.size()), nested);
     }
 
-    private static <T> T resolveArrayIndexer(String segment, Object object) {
-        var openingBracketIx = segment.indexOf(OPENING_BRACKET);
-        var closingBracketIx = segment.indexOf(CLOSING_BRACKET);
-        var propName = segment.substring(0, openingBracketIx);
-        var arrayIndex = Integer.parseInt(segment.substring(openingBracketIx + 1, closingBracketIx));
-        var iterableObject = (List) getFieldValue("'%s'".formatted(propName), object);
-        return (T) iterableObject.get(arrayIndex);
+    private static <T> T resolveArrayIndexer(Segment segment, Object object) {
+        var iterableObject = (List) getFieldValue(segment.arrayPropertyPath(), object);
+        return (T) iterableObject.get(segment.arrayIndex());
     }
 
     /**
@@ -207,17 +234,75 @@ public final class DseReflectionUtil {
      * @throws ReflectionException if the field does not exist or cannot be accessed
      */
     private static <T> T getRecursiveValue(String propertyName, Object object) {
-        var field = ReflectionUtil.getFieldRecursive(object.getClass(), propertyName);
-        if (field == null) {
-            throw new ReflectionException(propertyName);
+        var accessors = FIELD_ACCESSORS.get(object.getClass());
+        var accessor = accessors.get(propertyName);
+        if (accessor == null) {
+            accessor = FieldAccessor.of(object.getClass(), propertyName);
+            if (accessors.size() < MAX_CACHED_FIELDS_PER_CLASS) {
+                accessors.putIfAbsent(propertyName, accessor);
+            }
+        }
+        return (T) accessor.get(object);
+    }
+
+    /**
+     * A path segment with its array indexer, if any, parsed ahead of time.
+     *
+     * @param name              the segment as written in the path
+     * @param arrayPropertyPath the quoted path of the indexed list property, or null if the segment has no indexer
+     * @param arrayIndex        the index into the list
+     */
+    private record Segment(String name, String arrayPropertyPath, int arrayIndex) {
+
+        static Segment of(String name) {
+            if (!ARRAY_INDEXER_PATTERN.matcher(name).matches()) {
+                return new Segment(name, null, -1);
+            }
+            var openingBracketIx = name.indexOf(OPENING_BRACKET);
+            var closingBracketIx = name.indexOf(CLOSING_BRACKET);
+            var propName = name.substring(0, openingBracketIx);
+            var arrayIndex = Integer.parseInt(name.substring(openingBracketIx + 1, closingBracketIx));
+            return new Segment(name, "'%s'".formatted(propName), arrayIndex);
         }
-        if (!field.trySetAccessible()) {
-            throw new ReflectionException("Unable to access field: " + propertyName);
+
+        boolean isArrayIndexer() {
+            return arrayPropertyPath != null;
         }
-        try {
-            return (T) field.get(object);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionException(e);
+    }
+
+    /**
+     * Reads a field of a class through a {@link MethodHandle}, or fails the same way on every read if the field
+     * does not exist or cannot be made accessible.
+     */
+    private record FieldAccessor(MethodHandle getter, String error) {
+
+        static FieldAccessor of(Class<?> type, String propertyName) {
+            var field = ReflectionUtil.getFieldRecursive(type, propertyName);
+            if (field == null) {
+                return new FieldAccessor(null, propertyName);
+            }
+            if (!field.trySetAccessible()) {
+                return new FieldAccessor(null, "Unable to access field: " + propertyName);
+            }
+            try {
+                return new FieldAccessor(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE), null);
+            } catch (IllegalAccessException e) {
+                throw new ReflectionException(e);
+            }
+        }
+
+        Object get(Object object) {
+            if (getter == null) {
+                throw new ReflectionException(error);
+            }
+            try {
+                return getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // A field getter declares no checked exception
+                throw new IllegalStateException(e);
+            }
         }
     }
 }
@@ -438,6 +438,28 @@ class DseReflectionUtilTest {
                     .isInstanceOf(ReflectionException.class);
         }
 
+        @Test
+        @DisplayName("Non-existent field keeps throwing ReflectionException once its lookup is cached")
+        void nonExistentFieldOnObject_throwsOnEveryCall() {
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> DseReflectionUtil.getFieldValue("nonExistentField", dataset1))
+                        .isInstanceOf(ReflectionException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("Cached path and field accessors resolve the values of each object")
+        void cachedAccessors_resolvePerObject() {
+            var path = "properties.'http://www.w3.org/ns/dcat#hasVersion'[0].'@id'";
+
+            Object first = DseReflectionUtil.getFieldValue(path, dataset1);
+            Object again = DseReflectionUtil.getFieldValue(path, dataset1);
+
+            assertThat(again).isEqualTo(first);
+            assertThat((Object) DseReflectionUtil.getFieldValue("id", dataset2)).isEqualTo(dataset2.getId());
+            assertThat((Object) DseReflectionUtil.getFieldValue("id", dataset1)).isEqualTo(dataset1.getId());
+        }
+
         @Test
         @DisplayName("Array indexer out of bounds throws IndexOutOfBoundsException")
         void arrayIndexerOnNonList_throws() {
@@ -0,0 +1,33 @@
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+group = "org.eclipse.edc"
+version = "unspecified"
+
+dependencies {
+    jmh(project(":extensions:federated-catalog:federated-catalog-cache"))
+    jmh(project(":core:common"))                            // DsePropertyLookup
+    jmh(libs.edc.spi.core)                                  // QuerySpec, Criterion, Policy
+    jmh(libs.edc.spi.catalog)                               // Catalog, Dataset, DataService, Distribution
+    jmh(libs.edc.federatedcatalog.spi.core)                 // CatalogConstants
+    jmh(libs.edc.lib.query)                                 // CriterionOperatorRegistryImpl.ofDefaults()
+}
+
+// Federation sizes can be overridden, e.g. -Pbenchmark.participants=50000 -Pbenchmark.datasets=1000
+fun sizes(property: String, defaults: List<String>): ListProperty<String> =
+    objects.listProperty<String>().value(findProperty(property)?.toString()?.split(",") ?: defaults)
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    // Reports the allocation rate of every benchmark next to its score
+    profilers.add("gc")
+    findProperty("benchmark.includes")?.let { includes.add(it.toString()) }
+    benchmarkParameters.put("participants", sizes("benchmark.participants", listOf("1000", "10000")))
+    benchmarkParameters.put("datasetsPerParticipant", sizes("benchmark.datasets", listOf("10", "100")))
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache.benchmark;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.dse.catalog.cache.DatasetAwareQueryResolver;
+import org.eclipse.edc.dse.catalog.cache.DatasetIndex;
+import org.eclipse.edc.dse.catalog.cache.DseFederatedCatalogCacheExtension;
+import org.eclipse.edc.dse.catalog.cache.DseInOperatorPredicate;
+import org.eclipse.edc.dse.common.lib.DsePropertyLookup;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.DOMAIN;
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.FORMAT;
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.KEYWORDS;
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.TITLE;
+
+/**
+ * Measures {@link DatasetAwareQueryResolver} on a {@link SyntheticFederation}, for the queries the federated catalog
+ * API typically receives: filters on dataset properties, sorting, pagination, and the regrouping of the selected
+ * datasets into their catalogs.
+ *
+ * <p>The resolver is configured as in {@link DseFederatedCatalogCacheExtension}, with the {@code in} operator of
+ * {@link DseInOperatorPredicate} and the dataset ids indexed. The query result cache is not involved, every
+ * invocation evaluates the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CatalogQueryBenchmark {
+
+    private static final long SEED = 42;
+
+    @Param({ "1000" })
+    public int participants;
+
+    @Param({ "10" })
+    public int datasetsPerParticipant;
+
+    private Map<String, Catalog> catalogs;
+    private List<Catalog> catalogList;
+    private DatasetAwareQueryResolver resolver;
+    private DatasetIndex index;
+    private QuerySpec equalityFilter;
+    private QuerySpec inFilter;
+    private QuerySpec listPropertyInFilter;
+    private QuerySpec idFilter;
+    private QuerySpec sortedFirstPage;
+    private QuerySpec sortedDeepPage;
+    private QuerySpec filteredSortedPage;
+    private QuerySpec regroupAll;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalogs = SyntheticFederation.generate(participants, datasetsPerParticipant, SEED);
+        catalogList = List.copyOf(catalogs.values());
+
+        var propertyLookup = new DsePropertyLookup();
+        var registry = CriterionOperatorRegistryImpl.ofDefaults();
+        registry.registerPropertyLookup(propertyLookup);
+        registry.registerOperatorPredicate(DseFederatedCatalogCacheExtension.IN, DseInOperatorPredicate.in());
+        resolver = new DatasetAwareQueryResolver(registry);
+        index = new DatasetIndex(List.of(DatasetIndex.ID_PATH), propertyLookup);
+        catalogs.forEach(index::add);
+
+        var totalDatasets = participants * datasetsPerParticipant;
+        equalityFilter = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("datasets.properties." + FORMAT, "=", "text/csv"))
+                .build();
+        inFilter = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("properties." + DOMAIN, "in", List.of("aviation", "railway", "airport")))
+                .build();
+        listPropertyInFilter = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("properties." + KEYWORDS, "in", List.of("delays", "emissions")))
+                .build();
+        idFilter = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("id", "in", List.of(
+                        SyntheticFederation.datasetId(participants / 2, 0),
+                        SyntheticFederation.datasetId(participants - 1, datasetsPerParticipant - 1))))
+                .build();
+        sortedFirstPage = QuerySpec.Builder.newInstance()
+                .sortField("properties." + TITLE)
+                .sortOrder(SortOrder.ASC)
+                .offset(0)
+                .limit(50)
+                .build();
+        sortedDeepPage = QuerySpec.Builder.newInstance()
+                .sortField("properties." + TITLE)
+                .sortOrder(SortOrder.DESC)
+                .offset(totalDatasets / 2)
+                .limit(50)
+                .build();
+        filteredSortedPage = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("properties." + DOMAIN, "in", List.of("aviation", "railway", "airport")))
+                .filter(new Criterion("properties." + FORMAT, "=", "application/json"))
+                .sortField("properties." + TITLE)
+                .offset(0)
+                .limit(100)
+                .build();
+        regroupAll = QuerySpec.Builder.newInstance()
+                .offset(0)
+                .limit(Integer.MAX_VALUE)
+                .build();
+    }
+
+    @Benchmark
+    public List<Catalog> filterEquality() {
+        return resolver.query(catalogList.stream(), equalityFilter).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> filterIn() {
+        return resolver.query(catalogList.stream(), inFilter).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> filterInOnListProperty() {
+        return resolver.query(catalogList.stream(), listPropertyInFilter).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> filterIdScan() {
+        return resolver.query(catalogList.stream(), idFilter).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> filterIdIndexed() {
+        return resolver.query(catalogs, index, idFilter).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> sortFirstPage() {
+        return resolver.query(catalogList.stream(), sortedFirstPage).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> sortDeepPage() {
+        return resolver.query(catalogList.stream(), sortedDeepPage).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> filterSortPaginate() {
+        return resolver.query(catalogList.stream(), filteredSortedPage).toList();
+    }
+
+    @Benchmark
+    public List<Catalog> regroupAllDatasets() {
+        return resolver.query(catalogList.stream(), regroupAll).toList();
+    }
+}
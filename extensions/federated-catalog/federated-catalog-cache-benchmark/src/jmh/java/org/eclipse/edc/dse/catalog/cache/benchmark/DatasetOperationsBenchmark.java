@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache.benchmark;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.dse.catalog.cache.DatasetComparator;
+import org.eclipse.edc.dse.catalog.cache.DseInOperatorPredicate;
+import org.eclipse.edc.dse.common.lib.DsePropertyLookup;
+import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.DOMAIN;
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.KEYWORDS;
+import static org.eclipse.edc.dse.catalog.cache.benchmark.SyntheticFederation.TITLE;
+
+/**
+ * Measures the per-dataset operations every catalog query repeats for each cached dataset: property lookup with
+ * {@link DsePropertyLookup}, sort key extraction and comparison with {@link DatasetComparator}, and membership tests
+ * with {@link DseInOperatorPredicate}.
+ *
+ * <p>Each invocation walks a fixed sample of datasets of a {@link SyntheticFederation}, so the scores are per
+ * sample and the allocation rate reported by the {@code gc} profiler is per sample too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatasetOperationsBenchmark {
+
+    private static final int SAMPLE_SIZE = 1024;
+    private static final String DOMAIN_PATH = "properties." + DOMAIN;
+
+    private Dataset[] datasets;
+    private DsePropertyLookup propertyLookup;
+    private DatasetComparator comparator;
+    private OperatorPredicate in;
+    private List<String> domains;
+    private List<String> keywords;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        datasets = SyntheticFederation.generate(SAMPLE_SIZE / 16, 16, 7).values().stream()
+                .flatMap(catalog -> catalog.getDatasets().stream())
+                .toArray(Dataset[]::new);
+        propertyLookup = new DsePropertyLookup();
+        comparator = new DatasetComparator("properties." + TITLE, SortOrder.ASC);
+        in = DseInOperatorPredicate.in();
+        domains = List.of("aviation", "railway", "airport", "maritime");
+        keywords = List.of("delays", "emissions");
+    }
+
+    @Benchmark
+    public int propertyLookup() {
+        var found = 0;
+        for (var dataset : datasets) {
+            if (propertyLookup.getProperty(DOMAIN_PATH, dataset) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int sortKeyExtraction() {
+        var hash = 0;
+        for (var dataset : datasets) {
+            hash += comparator.sortKey(dataset).hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int pairwiseComparison() {
+        var order = 0;
+        for (int i = 1; i < datasets.length; i++) {
+            order += comparator.compare(datasets[i - 1], datasets[i]);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public int inOnScalarProperty() {
+        var matches = 0;
+        for (var dataset : datasets) {
+            if (in.test(dataset.getProperties().get(DOMAIN), domains)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int inOnListProperty() {
+        var matches = 0;
+        for (var dataset : datasets) {
+            if (in.test(dataset.getProperties().get(KEYWORDS), keywords)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache.benchmark;
+
+import org.eclipse.edc.catalog.spi.CatalogConstants;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a deterministic federation of participant catalogs, shaped like the ones the crawler stores in the
+ * federated catalog cache: every catalog is keyed by its originator, and every dataset carries a handful of
+ * descriptive properties, an offer restricted by a membership constraint and a distribution per data service.
+ *
+ * <p>Property values are drawn from small vocabularies, so that filters select a realistic share of the datasets
+ * rather than none or all of them.
+ */
+public final class SyntheticFederation {
+
+    public static final String TITLE = "dcterms:title";
+    public static final String FORMAT = "dcterms:format";
+    public static final String DOMAIN = "dse:domain";
+    public static final String KEYWORDS = "dcat:keyword";
+    public static final List<String> FORMATS = List.of("application/json", "text/csv", "application/xml", "application/parquet");
+    public static final List<String> DOMAINS = List.of("aviation", "railway", "hospitality", "cruise", "car-rental", "insurance",
+            "payments", "airport", "ground-handling", "loyalty", "weather", "tourism", "events", "maritime", "logistics", "retail");
+
+    private static final List<String> WORDS = List.of("flights", "fares", "schedules", "availability", "bookings", "delays",
+            "occupancy", "routes", "baggage", "emissions", "forecast", "inventory", "prices", "reviews", "transfers", "stations");
+    private static final List<String> MEMBERSHIPS = List.of("MembershipCredential", "DomainCredential", "PartnerCredential");
+
+    private SyntheticFederation() {
+    }
+
+    /**
+     * Returns {@code participants} catalogs of {@code datasetsPerParticipant} datasets each, by originator. The same
+     * arguments and seed always produce the same federation.
+     */
+    public static Map<String, Catalog> generate(int participants, int datasetsPerParticipant, long seed) {
+        var random = new Random(seed);
+        var catalogs = new LinkedHashMap<String, Catalog>(participants * 2);
+        for (int participant = 0; participant < participants; participant++) {
+            var originator = "https://participant-%d.dataspace.example/protocol".formatted(participant);
+            catalogs.put(originator, catalog(participant, originator, datasetsPerParticipant, random));
+        }
+        return catalogs;
+    }
+
+    /**
+     * Returns the id of a dataset of the federation, as generated by {@link #generate}.
+     */
+    public static String datasetId(int participant, int dataset) {
+        return "dataset-%d-%d".formatted(participant, dataset);
+    }
+
+    private static Catalog catalog(int participant, String originator, int datasetCount, Random random) {
+        var participantId = "did:web:participant-%d.dataspace.example".formatted(participant);
+        var dataService = DataService.Builder.newInstance()
+                .id("data-service-%d".formatted(participant))
+                .endpointUrl(originator)
+                .build();
+        var datasets = new ArrayList<Dataset>(datasetCount);
+        for (int dataset = 0; dataset < datasetCount; dataset++) {
+            datasets.add(dataset(participant, dataset, participantId, dataService, random));
+        }
+        return Catalog.Builder.newInstance()
+                .id("catalog-%d".formatted(participant))
+                .participantId(participantId)
+                .property(CatalogConstants.PROPERTY_ORIGINATOR, originator)
+                .dataServices(List.of(dataService))
+                .datasets(datasets)
+                .build();
+    }
+
+    private static Dataset dataset(int participant, int dataset, String participantId, DataService dataService, Random random) {
+        var domain = pick(DOMAINS, random);
+        var format = pick(FORMATS, random);
+        var keywords = List.of(domain, pick(WORDS, random), pick(WORDS, random));
+        return Dataset.Builder.newInstance()
+                .id(datasetId(participant, dataset))
+                .property(TITLE, "%s %s %d".formatted(domain, pick(WORDS, random), random.nextInt(100_000)))
+                .property("dcterms:description", "Synthetic %s dataset %d of %s".formatted(domain, dataset, participantId))
+                .property(FORMAT, format)
+                .property(DOMAIN, domain)
+                .property(KEYWORDS, keywords)
+                .property("dcterms:issued", "2024-%02d-%02d".formatted(1 + random.nextInt(12), 1 + random.nextInt(28)))
+                .offer("offer-%d-%d".formatted(participant, dataset), policy(participantId, pick(MEMBERSHIPS, random)))
+                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                .build();
+    }
+
+    private static Policy policy(String assigner, String credential) {
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(credential))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("active"))
+                .build();
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build())
+                .constraint(constraint)
+                .build();
+        return Policy.Builder.newInstance().assigner(assigner).permission(permission).build();
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
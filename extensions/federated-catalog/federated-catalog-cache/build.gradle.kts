@@ -13,6 +13,7 @@ dependencies {
     implementation(libs.edc.lib.util)                       // LockManager, ReflectionException
     implementation(libs.edc.lib.query)                      // CriterionOperatorRegistryImpl.ofDefaults()
     implementation(libs.edc.runtime.metamodel)              // @Extension, @Inject, @Provider
+    implementation(libs.jackson.databind)                   // ObjectMapper for the catalog snapshot
 
     testImplementation(libs.edc.core.junit)
 }
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Content hashes of a {@link Catalog}: one for the catalog itself without its datasets, and one per dataset, in
+ * dataset order. Two catalogs with equal fingerprints hold the same content.
+ *
+ * <p>Hashes are SHA-256 digests of a canonical walk of the object graph. Maps and sets are hashed independently of
+ * their iteration order, JDK value types by their string form, and other objects field by field. An object whose
+ * fields cannot be read is hashed by its identity hash code, so a new instance is practically never considered unchanged.
+ *
+ * @param catalog  the hash of the catalog properties, offers, distributions and data services
+ * @param datasets the hashes of the datasets, in the order of {@link Catalog#getDatasets()}
+ */
+public record CatalogFingerprint(String catalog, List<String> datasets) {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    public static CatalogFingerprint of(Catalog catalog) {
+        var header = digest(List.of(
+                String.valueOf(catalog.getId()),
+                String.valueOf(catalog.getParticipantId()),
+                nullToEmpty(catalog.getProperties()),
+                nullToEmpty(catalog.getOffers()),
+                nullToEmpty(catalog.getDistributions()),
+                nullToEmpty(catalog.getDataServices())));
+        var datasets = catalog.getDatasets() == null
+                ? List.<String>of()
+                : catalog.getDatasets().stream().map(CatalogFingerprint::of).toList();
+        return new CatalogFingerprint(header, datasets);
+    }
+
+    public static String of(Dataset dataset) {
+        return digest(dataset);
+    }
+
+    /**
+     * Returns the content hash of any object of a catalog, e.g. a policy or a data service.
+     */
+    static String hash(Object value) {
+        return digest(value);
+    }
+
+    private static Object nullToEmpty(Object value) {
+        return value == null ? List.of() : value;
+    }
+
+    private static String digest(Object value) {
+        var digest = newDigest();
+        write(value, digest, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static byte[] digestBytes(Object value, Set<Object> visiting) {
+        var digest = newDigest();
+        write(value, digest, visiting);
+        return digest.digest();
+    }
+
+    private static void write(Object value, MessageDigest digest, Set<Object> visiting) {
+        if (value == null) {
+            tag(digest, 'N');
+        } else if (value instanceof CharSequence chars) {
+            tag(digest, 'S');
+            text(digest, chars.toString());
+        } else if (value instanceof Enum<?> || value.getClass().getName().startsWith("java.") && !(value instanceof Map<?, ?>)
+                && !(value instanceof Collection<?>)) {
+            tag(digest, 'V');
+            text(digest, value.getClass().getName());
+            text(digest, value.toString());
+        } else if (!visiting.add(value)) {
+            // A reference back to an object being hashed
+            tag(digest, 'C');
+        } else {
+            try {
+                writeStructure(value, digest, visiting);
+            } finally {
+                visiting.remove(value);
+            }
+        }
+    }
+
+    private static void writeStructure(Object value, MessageDigest digest, Set<Object> visiting) {
+        if (value instanceof Map<?, ?> map) {
+            tag(digest, 'M');
+            var entries = new ArrayList<byte[]>(map.size());
+            map.forEach((k, v) -> {
+                var entryDigest = newDigest();
+                write(k, entryDigest, visiting);
+                write(v, entryDigest, visiting);
+                entries.add(entryDigest.digest());
+            });
+            writeUnordered(entries, digest);
+        } else if (value instanceof Set<?> set) {
+            tag(digest, 'E');
+            var elements = new ArrayList<byte[]>(set.size());
+            set.forEach(element -> elements.add(digestBytes(element, visiting)));
+            writeUnordered(elements, digest);
+        } else if (value instanceof Collection<?> collection) {
+            tag(digest, 'L');
+            text(digest, Integer.toString(collection.size()));
+            collection.forEach(element -> write(element, digest, visiting));
+        } else if (value.getClass().isArray()) {
+            tag(digest, 'A');
+            var length = Array.getLength(value);
+            text(digest, Integer.toString(length));
+            for (int i = 0; i < length; i++) {
+                write(Array.get(value, i), digest, visiting);
+            }
+        } else {
+            writeFields(value, digest, visiting);
+        }
+    }
+
+    private static void writeFields(Object value, MessageDigest digest, Set<Object> visiting) {
+        tag(digest, 'O');
+        text(digest, value.getClass().getName());
+        for (var type = value.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                Object fieldValue;
+                try {
+                    field.setAccessible(true);
+                    fieldValue = field.get(value);
+                } catch (RuntimeException | IllegalAccessException e) {
+                    // Unreadable state, the object can only be equal to itself
+                    text(digest, Integer.toString(System.identityHashCode(value)));
+                    return;
+                }
+                text(digest, field.getName());
+                write(fieldValue, digest, visiting);
+            }
+        }
+    }
+
+    private static void writeUnordered(List<byte[]> digests, MessageDigest digest) {
+        digests.sort(Arrays::compare);
+        text(digest, Integer.toString(digests.size()));
+        digests.forEach(digest::update);
+    }
+
+    private static void tag(MessageDigest digest, char tag) {
+        digest.update((byte) tag);
+    }
+
+    private static void text(MessageDigest digest, String text) {
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+        // Length prefixed, so that adjacent strings cannot run into each other
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
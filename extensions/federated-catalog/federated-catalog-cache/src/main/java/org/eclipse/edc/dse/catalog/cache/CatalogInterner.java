@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.policy.model.Policy;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rebuilds the catalogs saved in the cache so that repeated content is held once on the heap.
+ *
+ * <p>Property keys and short string values are interned, and structurally identical {@link Policy},
+ * {@link DataService} and {@link Distribution} instances, as identified by their {@link CatalogFingerprint} hash,
+ * are replaced by a single shared instance. Shared instances are only weakly referenced by the interner, so content
+ * no longer used by any cached catalog can be garbage collected.
+ *
+ * <p>Only the plain JDK maps and lists of the properties are rebuilt, other values such as JSON-P structures are
+ * kept as they are. Nested catalogs are not compacted.
+ */
+public class CatalogInterner {
+
+    // Longer values are mostly free text, interning them would mostly fill the string table
+    private static final int MAX_INTERNED_VALUE_LENGTH = 128;
+
+    private final Map<String, WeakReference<Object>> shared = new ConcurrentHashMap<>();
+
+    public Catalog compact(Catalog catalog) {
+        var builder = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .participantId(catalog.getParticipantId());
+        if (catalog.getProperties() != null) {
+            builder.properties(internProperties(catalog.getProperties()));
+        }
+        if (catalog.getOffers() != null) {
+            catalog.getOffers().forEach((id, policy) -> builder.offer(id, share(policy)));
+        }
+        if (catalog.getDistributions() != null) {
+            catalog.getDistributions().forEach(distribution -> builder.distribution(share(distribution)));
+        }
+        if (catalog.getDataServices() != null) {
+            builder.dataServices(new ArrayList<>(catalog.getDataServices().stream().map(this::share).toList()));
+        }
+        if (catalog.getDatasets() != null) {
+            var datasets = new ArrayList<Dataset>(catalog.getDatasets().size());
+            catalog.getDatasets().forEach(dataset -> datasets.add(compact(dataset)));
+            builder.datasets(datasets);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Drops the entries of shared instances that were garbage collected.
+     */
+    public void purge() {
+        shared.values().removeIf(reference -> reference.get() == null);
+    }
+
+    int sharedInstances() {
+        return shared.size();
+    }
+
+    private Dataset compact(Dataset dataset) {
+        if (dataset == null || dataset instanceof Catalog) {
+            return dataset;
+        }
+        var builder = Dataset.Builder.newInstance().id(dataset.getId());
+        if (dataset.getProperties() != null) {
+            builder.properties(internProperties(dataset.getProperties()));
+        }
+        if (dataset.getOffers() != null) {
+            dataset.getOffers().forEach((id, policy) -> builder.offer(id, share(policy)));
+        }
+        if (dataset.getDistributions() != null) {
+            dataset.getDistributions().forEach(distribution -> builder.distribution(share(distribution)));
+        }
+        return builder.build();
+    }
+
+    private Map<String, Object> internProperties(Map<String, Object> properties) {
+        if (properties == null) {
+            return null;
+        }
+        var result = new LinkedHashMap<String, Object>(properties.size());
+        properties.forEach((key, value) -> result.put(key.intern(), internValue(value)));
+        return result;
+    }
+
+    private Object internValue(Object value) {
+        if (value instanceof String string) {
+            return intern(string);
+        }
+        if (value instanceof Map<?, ?> map && isPlainJdkType(map)) {
+            var result = new LinkedHashMap<Object, Object>(map.size());
+            map.forEach((key, element) -> result.put(internValue(key), internValue(element)));
+            return result;
+        }
+        if (value instanceof List<?> list && isPlainJdkType(list)) {
+            var result = new ArrayList<>(list.size());
+            list.forEach(element -> result.add(internValue(element)));
+            return result;
+        }
+        return value;
+    }
+
+    private static String intern(String value) {
+        return value != null && value.length() <= MAX_INTERNED_VALUE_LENGTH ? value.intern() : value;
+    }
+
+    private static boolean isPlainJdkType(Object value) {
+        return value.getClass().getName().startsWith("java.util.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T share(T value) {
+        if (value == null) {
+            return null;
+        }
+        var key = value.getClass().getName() + ":" + CatalogFingerprint.hash(value);
+        // Computed under the map lock, so concurrent saves agree on a single instance
+        var reference = shared.compute(key, (k, existing) -> existing != null && existing.get() != null
+                ? existing
+                : new WeakReference<>(value));
+        var instance = reference.get();
+        return instance != null ? (T) instance : value;
+    }
+}
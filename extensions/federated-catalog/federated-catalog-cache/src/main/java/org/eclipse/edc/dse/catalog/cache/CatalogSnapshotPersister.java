@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Persists the catalogs of a {@link CustomFederatedCatalogCache} to a gzip-compressed JSON file on local disk, and
+ * loads them back at startup, so that a restarted runtime serves full query results before its first crawl.
+ *
+ * <p>The file is rewritten periodically, only when the cached catalogs changed since the last write. It is written to
+ * a temporary file first and then moved over the previous one, so a crash while writing never leaves a truncated
+ * snapshot. Restored catalogs are saved in the cache like crawled ones, and are expired by the crawler as usual when
+ * their participant is gone.
+ */
+public class CatalogSnapshotPersister {
+
+    private static final TypeReference<List<Catalog>> CATALOG_LIST = new TypeReference<>() {
+    };
+
+    private final CustomFederatedCatalogCache cache;
+    private final Path file;
+    private final ObjectMapper mapper;
+    private final Monitor monitor;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService executor;
+    private Map<String, Catalog> lastPersisted;
+
+    public CatalogSnapshotPersister(CustomFederatedCatalogCache cache, Path file, ObjectMapper mapper, Monitor monitor,
+                                    ExecutorInstrumentation instrumentation, long intervalSeconds) {
+        this.cache = cache;
+        this.file = file;
+        this.mapper = mapper;
+        this.monitor = monitor;
+        this.intervalSeconds = intervalSeconds;
+        this.executor = instrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("CatalogSnapshotPersister");
+                    return thread;
+                }), getClass().getSimpleName());
+    }
+
+    /**
+     * Saves the catalogs of the snapshot file in the cache. A missing or unreadable file leaves the cache empty.
+     *
+     * @return the number of restored catalogs
+     */
+    public int restore() {
+        if (!Files.isRegularFile(file)) {
+            monitor.info(format("No catalog snapshot found at %s, the cache starts empty", file));
+            return 0;
+        }
+        List<Catalog> catalogs;
+        try (var in = new GZIPInputStream(Files.newInputStream(file))) {
+            catalogs = mapper.readValue(in, CATALOG_LIST);
+        } catch (IOException | RuntimeException e) {
+            monitor.warning(format("Failed to read catalog snapshot %s, the cache starts empty", file), e);
+            return 0;
+        }
+        catalogs.forEach(cache::save);
+        cache.publish();
+        // Nothing to write back until the crawler changes the cache
+        lastPersisted = cache.catalogs();
+        monitor.info(format("Restored %d catalogs from snapshot %s", catalogs.size(), file));
+        return catalogs.size();
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::persistSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic writes and writes the snapshot one last time.
+     */
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                monitor.warning("Catalog snapshot persister did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        persistSafely();
+    }
+
+    /**
+     * Writes the cached catalogs to the snapshot file, unless they are unchanged since the last write.
+     *
+     * @return true when the file was written
+     */
+    public synchronized boolean persist() throws IOException {
+        var catalogs = cache.catalogs();
+        // Snapshots are immutable and only replaced when the catalogs change, so identity is enough
+        if (catalogs == lastPersisted) {
+            return false;
+        }
+        var parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var out = new GZIPOutputStream(Files.newOutputStream(temporary))) {
+            mapper.writerFor(CATALOG_LIST).writeValue(out, new ArrayList<>(catalogs.values()));
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        lastPersisted = catalogs;
+        monitor.debug(format("Persisted %d catalogs to snapshot %s", catalogs.size(), file));
+        return true;
+    }
+
+    private void persistSafely() {
+        try {
+            persist();
+        } catch (IOException | RuntimeException e) {
+            monitor.warning(format("Failed to persist catalog snapshot to %s", file), e);
+        }
+    }
+}
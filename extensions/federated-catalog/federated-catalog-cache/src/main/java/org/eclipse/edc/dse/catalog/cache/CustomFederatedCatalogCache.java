@@ -22,9 +22,14 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.util.concurrency.LockManager;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An in-memory implementation of {@link FederatedCatalogCache} that replaces EDC's default
@@ -37,43 +42,194 @@ import java.util.concurrent.ConcurrentHashMap;
  * {@link org.eclipse.edc.spi.query.CriterionOperatorRegistry}, which in turn uses
  * {@link org.eclipse.edc.dse.common.lib.DseReflectionUtil} for path navigation.
  *
- * <p>All write operations ({@link #save}, {@link #expireAll}, {@link #deleteExpired}) are
- * guarded by a write lock. {@link #query} uses a read lock for concurrency safety.
+ * <p>When created with a {@link DatasetIndex}, the index is updated on every write, so that
+ * queries on indexed dataset properties only evaluate the datasets the index selects.
+ *
+ * <p>Queries read an immutable {@link Snapshot} of the cached catalogs and their index without taking
+ * any lock, so they are not blocked by the crawler. Write operations ({@link #save}, {@link #expireAll},
+ * {@link #deleteExpired}) are serialized by a write lock and update a writer-owned copy of the catalogs
+ * and index in place. Publishing a new snapshot copies that state, so publications are coalesced: a
+ * changed catalog is published right away only when the previous snapshot is older than the publish
+ * interval, otherwise it is published by the next {@link #publish()}, or at the latest when the next
+ * crawl generation starts. A crawl of N changed catalogs therefore copies the cache once per interval
+ * instead of N times, and a publish interval of 0 publishes every change right away.
+ *
+ * <p>{@link #save} compares the {@link CatalogFingerprint} of the incoming catalog with the one of the
+ * cached catalog. An unchanged catalog only has its generation refreshed, and a changed one is
+ * re-indexed extracting the values of its new or updated datasets only. The generations are kept
+ * outside of the snapshot, so neither {@link #expireAll} nor saving an unchanged catalog copies the
+ * cache state or publishes a new snapshot: a crawl in which no participant changed leaves the
+ * snapshot and its cached query results untouched.
+ *
+ * <p>When created with a {@link CatalogInterner}, changed catalogs are compacted before they are
+ * stored, so that repeated strings, policies and data services are shared across the cache.
+ *
+ * <p>When created with a query result cache size, the results of repeated queries are cached per
+ * snapshot, see {@link QueryResultCache}. Every published snapshot starts with an empty result cache,
+ * so a publication invalidates all cached results.
+ *
+ * <p>Expiry is tracked with crawl generations: {@link #expireAll} starts a new generation and
+ * {@link #deleteExpired} removes the catalogs that were not saved during the current generation.
  */
 public class CustomFederatedCatalogCache implements FederatedCatalogCache {
 
-    private final Map<String, MarkableEntry<Catalog>> cache = new ConcurrentHashMap<>();
     private final LockManager lockManager;
     private final QueryResolver<Catalog> queryResolver;
+    private final DatasetAwareQueryResolver indexedQueryResolver;
+    private final int queryResultCacheSize;
+    private final CatalogInterner interner;
+    private final long publishIntervalNanos;
+    // Writer state, only written under the write lock. The fingerprints are also read before taking it
+    private final Map<String, Catalog> catalogs = new LinkedHashMap<>();
+    private final Map<String, CatalogFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final DatasetIndex index;
+    private final Map<String, Long> savedIn = new HashMap<>();
+    private long generation;
+    private boolean unpublished;
+    private long publishedAt;
+    private volatile Snapshot snapshot;
 
     public CustomFederatedCatalogCache(LockManager lockManager, QueryResolver<Catalog> queryResolver) {
+        this(lockManager, queryResolver, null, null, 0, null, 0);
+    }
+
+    public CustomFederatedCatalogCache(LockManager lockManager, DatasetAwareQueryResolver queryResolver, DatasetIndex datasetIndex) {
+        this(lockManager, queryResolver, queryResolver, datasetIndex, 0, null, 0);
+    }
+
+    /**
+     * Creates a cache that keeps the results of up to {@code queryResultCacheSize} distinct queries, 0 disabling the
+     * result cache. {@code datasetIndex} may be null when the datasets are not indexed.
+     */
+    public CustomFederatedCatalogCache(LockManager lockManager, DatasetAwareQueryResolver queryResolver, DatasetIndex datasetIndex, int queryResultCacheSize) {
+        this(lockManager, queryResolver, queryResolver, datasetIndex, queryResultCacheSize, null, 0);
+    }
+
+    /**
+     * Same as {@link #CustomFederatedCatalogCache(LockManager, DatasetAwareQueryResolver, DatasetIndex, int)},
+     * compacting the saved catalogs with {@code interner} when it is not null.
+     */
+    public CustomFederatedCatalogCache(LockManager lockManager, DatasetAwareQueryResolver queryResolver, DatasetIndex datasetIndex, int queryResultCacheSize,
+                                       CatalogInterner interner) {
+        this(lockManager, queryResolver, queryResolver, datasetIndex, queryResultCacheSize, interner, 0);
+    }
+
+    /**
+     * Same as {@link #CustomFederatedCatalogCache(LockManager, DatasetAwareQueryResolver, DatasetIndex, int, CatalogInterner)},
+     * publishing changed catalogs at most once every {@code publishIntervalMillis}, 0 publishing every change right away.
+     */
+    public CustomFederatedCatalogCache(LockManager lockManager, DatasetAwareQueryResolver queryResolver, DatasetIndex datasetIndex, int queryResultCacheSize,
+                                       CatalogInterner interner, long publishIntervalMillis) {
+        this(lockManager, queryResolver, queryResolver, datasetIndex, queryResultCacheSize, interner, publishIntervalMillis);
+    }
+
+    private CustomFederatedCatalogCache(LockManager lockManager, QueryResolver<Catalog> queryResolver, DatasetAwareQueryResolver indexedQueryResolver,
+                                        DatasetIndex datasetIndex, int queryResultCacheSize, CatalogInterner interner, long publishIntervalMillis) {
         this.lockManager = lockManager;
         this.queryResolver = queryResolver;
+        this.indexedQueryResolver = indexedQueryResolver;
+        this.queryResultCacheSize = queryResultCacheSize;
+        this.interner = interner;
+        this.publishIntervalNanos = TimeUnit.MILLISECONDS.toNanos(publishIntervalMillis);
+        this.index = datasetIndex;
+        this.snapshot = newSnapshot(Map.of(), datasetIndex != null ? datasetIndex.copy() : null);
+        // The first change is published right away
+        this.publishedAt = System.nanoTime() - publishIntervalNanos;
     }
 
     @Override
     public void save(Catalog catalog) {
+        var id = Optional.ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
+                .map(Object::toString)
+                .orElse(catalog.getId());
+        // Hashed and compacted before taking the lock, so that concurrent saves only wait for each other to update the
+        // cache. Unchanged catalogs are not compacted, a catalog changed by a concurrent save in between is compacted
+        // under the lock. The compacted catalog holds the same content, in the same dataset order, so the fingerprint
+        // still applies
+        var fingerprint = CatalogFingerprint.of(catalog);
+        var compacted = interner != null && !fingerprint.equals(fingerprints.get(id)) ? interner.compact(catalog) : null;
         lockManager.writeLock(() -> {
-            var id = Optional.ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
-                    .map(Object::toString)
-                    .orElse(catalog.getId());
-            cache.put(id, new MarkableEntry<>(false, catalog));
+            savedIn.put(id, generation);
+            if (fingerprint.equals(fingerprints.get(id))) {
+                // Same content: the current snapshot, with its index and cached query results, stays valid
+                return null;
+            }
+
+            var stored = compacted != null ? compacted : interner != null ? interner.compact(catalog) : catalog;
+            catalogs.put(id, stored);
+            fingerprints.put(id, fingerprint);
+            if (index != null) {
+                index.add(id, stored, fingerprint.datasets());
+            }
+            unpublished = true;
+            if (System.nanoTime() - publishedAt >= publishIntervalNanos) {
+                publishUnderLock();
+            }
             return null;
         });
     }
 
+    /**
+     * Publishes the catalogs saved since the last published snapshot, if any. Called periodically when the cache has a
+     * publish interval, so that the last changes of a crawl do not wait for the next crawl to be visible.
+     */
+    public void publish() {
+        lockManager.writeLock(() -> {
+            if (unpublished) {
+                publishUnderLock();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns the cached catalogs by id, as of the current snapshot. The returned map is immutable and is the same
+     * instance until a snapshot with changed catalogs is published.
+     */
+    public Map<String, Catalog> catalogs() {
+        return snapshot.catalogs();
+    }
+
     @Override
     public Collection<Catalog> query(QuerySpec query) {
-        return lockManager.readLock(() -> {
-            var catalogs = cache.values().stream().map(MarkableEntry::getEntry);
-            return queryResolver.query(catalogs, query).toList();
-        });
+        var current = snapshot;
+        if (current.results() != null) {
+            return current.results().get(query, () -> resolve(current, query));
+        }
+        return resolve(current, query);
+    }
+
+    private List<Catalog> resolve(Snapshot current, QuerySpec query) {
+        if (current.index() != null) {
+            return indexedQueryResolver.query(current.catalogs(), current.index(), query).toList();
+        }
+        return queryResolver.query(current.catalogs().values().stream(), query).toList();
     }
 
     @Override
     public void deleteExpired() {
         lockManager.writeLock(() -> {
-            cache.values().removeIf(MarkableEntry::isMarked);
+            var expired = savedIn.entrySet().stream()
+                    .filter(entry -> entry.getValue() < generation)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (expired.isEmpty()) {
+                return null;
+            }
+
+            for (var id : expired) {
+                catalogs.remove(id);
+                savedIn.remove(id);
+                fingerprints.remove(id);
+                if (index != null) {
+                    index.remove(id);
+                }
+            }
+            // Expiry happens between two crawls, so it is published right away with the pending changes
+            publishUnderLock();
+            if (interner != null) {
+                interner.purge();
+            }
             return null;
         });
     }
@@ -81,26 +237,36 @@ public class CustomFederatedCatalogCache implements FederatedCatalogCache {
     @Override
     public void expireAll() {
         lockManager.writeLock(() -> {
-            cache.replaceAll((k, v) -> new MarkableEntry<>(true, v.getEntry()));
+            generation++;
+            // The changes of the previous crawl are all visible before the next one starts. Without any, the
+            // snapshot and its cached query results stay valid
+            if (unpublished) {
+                publishUnderLock();
+            }
             return null;
         });
     }
 
-    private static class MarkableEntry<B> {
-        private final B entry;
-        private final boolean marked;
-
-        MarkableEntry(boolean marked, B entry) {
-            this.marked = marked;
-            this.entry = entry;
-        }
+    // Only the keys of the catalogs and of the index are copied, the catalogs and their postings are shared
+    private void publishUnderLock() {
+        snapshot = newSnapshot(Collections.unmodifiableMap(new LinkedHashMap<>(catalogs)), index != null ? index.copy() : null);
+        unpublished = false;
+        publishedAt = System.nanoTime();
+    }
 
-        boolean isMarked() {
-            return marked;
-        }
+    private Snapshot newSnapshot(Map<String, Catalog> catalogs, DatasetIndex index) {
+        var results = queryResultCacheSize > 0 ? new QueryResultCache(queryResultCacheSize) : null;
+        return new Snapshot(catalogs, index, results);
+    }
 
-        B getEntry() {
-            return entry;
-        }
+    /**
+     * An immutable state of the cache. Neither the maps nor the index are modified once the snapshot is published,
+     * only the result cache fills up as the snapshot is queried.
+     *
+     * @param catalogs the cached catalogs by id, in save order
+     * @param index    the index of the datasets of {@code catalogs}, or null when the cache is not indexed
+     * @param results  the results of the queries on this snapshot, or null when results are not cached
+     */
+    private record Snapshot(Map<String, Catalog> catalogs, DatasetIndex index, QueryResultCache results) {
     }
 }
@@ -22,8 +22,14 @@ import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -38,67 +44,241 @@ import java.util.stream.Stream;
  *       objects. Only matching datasets are kept; catalogs with no matching datasets
  *       are dropped.</li>
  *   <li>Sort — datasets are sorted across all catalogs using {@link DatasetComparator}.
- *       Sentinel entries (empty-catalog placeholders with {@code null} dataset) follow
- *       the comparator contract explicitly: return {@code 0} when both sides are sentinels,
- *       {@code 1} when only the left side is a sentinel, and {@code -1} when only the
- *       right side is a sentinel.</li>
+ *       The sort value of each dataset is extracted once. When only the first
+ *       {@code offset + limit} datasets are needed, they are selected with a bounded heap
+ *       instead of sorting all datasets. Sentinel entries (empty-catalog placeholders with
+ *       {@code null} dataset) are not sorted.</li>
  *   <li>Paginate — {@code offset} and {@code limit} are applied to the flat dataset list.</li>
  *   <li>Regroup — paginated datasets are grouped back into their source catalogs.</li>
  * </ol>
+ *
+ * <p>When a {@link DatasetIndex} is available, {@code =} and {@code in} criteria with string operands on indexed
+ * paths are resolved from the index, and only the remaining criteria are evaluated, on the candidate datasets.
+ *
+ * <p>When created with a {@link ForkJoinPool}, queries over at least {@code parallelThreshold} datasets are
+ * filtered catalog by catalog in that pool. The filtered catalogs are merged back in query order, so sort and
+ * pagination return the same results as the sequential evaluation.
  */
 public class DatasetAwareQueryResolver implements QueryResolver<Catalog> {
 
-    private static final String DATASETS_PREFIX = "datasets.";
+    static final String DATASETS_PREFIX = "datasets.";
+    private static final String EQUAL = "=";
+    private static final String IN = "in";
 
     private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final ForkJoinPool parallelPool;
+    private final int parallelThreshold;
 
     public DatasetAwareQueryResolver(CriterionOperatorRegistry criterionOperatorRegistry) {
+        this(criterionOperatorRegistry, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a resolver filtering the catalogs in {@code parallelPool} when a query covers at least
+     * {@code parallelThreshold} datasets. A null pool disables the parallel evaluation.
+     */
+    public DatasetAwareQueryResolver(CriterionOperatorRegistry criterionOperatorRegistry, ForkJoinPool parallelPool, int parallelThreshold) {
         this.criterionOperatorRegistry = criterionOperatorRegistry;
+        this.parallelPool = parallelPool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     @Override
     public Stream<Catalog> query(Stream<Catalog> stream, QuerySpec spec) {
         var criteria = spec.getFilterExpression();
-        var allFilteredEntries = flattenFilteredEntries(stream, criteria);
-        sortEntries(allFilteredEntries, spec);
+        return resolve(flattenFilteredEntries(stream.toList(), criteria), spec);
+    }
+
+    /**
+     * Same as {@link #query(Stream, QuerySpec)}, resolving the criteria that the index covers from {@code index}.
+     *
+     * @param catalogs the catalogs keyed as in the index, in query order
+     * @param index    the index of the datasets of {@code catalogs}
+     * @param spec     the query
+     */
+    public Stream<Catalog> query(Map<String, Catalog> catalogs, DatasetIndex index, QuerySpec spec) {
+        var criteria = spec.getFilterExpression();
+        var indexedCriteria = criteria.stream()
+                .filter(criterion -> indexValues(criterion, index) != null)
+                .toList();
+        if (indexedCriteria.isEmpty()) {
+            return resolve(flattenFilteredEntries(List.copyOf(catalogs.values()), criteria), spec);
+        }
+
+        var candidates = lookupCandidates(indexedCriteria, index);
+        // The index returns a superset of the matches, so the candidates are checked against every criterion,
+        // which still only evaluates the predicates on a small fraction of the datasets
+        Predicate<Dataset> datasetPredicate = criteria.stream()
+                .map(this::toDatasetLevelPredicate)
+                .reduce(x -> true, Predicate::and);
 
-        var paginatedEntries = paginateEntries(allFilteredEntries, spec);
+        var entries = new ArrayList<DatasetEntry>();
+        catalogs.forEach((key, catalog) -> {
+            if (catalog.getDatasets() == null || catalog.getDatasets().isEmpty()) {
+                entries.add(new DatasetEntry(null, catalog));
+                return;
+            }
+            var positions = candidates.get(key);
+            if (positions == null) {
+                return;
+            }
+            for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+                var dataset = catalog.getDatasets().get(position);
+                if (datasetPredicate.test(dataset)) {
+                    entries.add(new DatasetEntry(dataset, catalog));
+                }
+            }
+        });
+        return resolve(entries, spec);
+    }
+
+    private Stream<Catalog> resolve(List<DatasetEntry> allFilteredEntries, QuerySpec spec) {
+        // Sentinel (null dataset) entries are neither sorted nor paginated
+        var datasetEntries = allFilteredEntries.stream()
+                .filter(e -> e.dataset() != null)
+                .toList();
+
+        var paginatedEntries = spec.getSortField() != null
+                ? sortAndPaginateEntries(datasetEntries, spec)
+                : paginateEntries(datasetEntries, spec);
         var sentinelCatalogs = findSentinelCatalogs(allFilteredEntries, paginatedEntries);
 
         return regroupEntries(paginatedEntries, sentinelCatalogs);
     }
 
-    private List<DatasetEntry> flattenFilteredEntries(Stream<Catalog> stream, List<Criterion> criteria) {
+    /**
+     * Returns the values to look up in the index for the criterion, or null when the index cannot resolve it.
+     */
+    private static List<String> indexValues(Criterion criterion, DatasetIndex index) {
+        if (!index.isIndexed(toDatasetPath(criterion.getOperandLeft().toString()))) {
+            return null;
+        }
+        var operator = criterion.getOperator();
+        var operandRight = criterion.getOperandRight();
+        if (EQUAL.equals(operator) && operandRight instanceof String value) {
+            return List.of(value);
+        }
+        if (IN.equalsIgnoreCase(operator) && operandRight instanceof Iterable<?> iterable) {
+            var values = new ArrayList<String>();
+            for (var value : iterable) {
+                if (!(value instanceof String stringValue)) {
+                    return null;
+                }
+                values.add(stringValue);
+            }
+            return values;
+        }
+        return null;
+    }
+
+    // Intersects the candidates of every criterion, starting from the most selective one
+    private static Map<String, BitSet> lookupCandidates(List<Criterion> indexedCriteria, DatasetIndex index) {
+        var candidateSets = indexedCriteria.stream()
+                .map(criterion -> index.lookup(toDatasetPath(criterion.getOperandLeft().toString()), indexValues(criterion, index)))
+                .sorted(Comparator.comparingInt(DatasetAwareQueryResolver::cardinality))
+                .toList();
+
+        var candidates = candidateSets.get(0);
+        for (var other : candidateSets.subList(1, candidateSets.size())) {
+            candidates.keySet().retainAll(other.keySet());
+            candidates.forEach((key, positions) -> positions.and(other.get(key)));
+            candidates.values().removeIf(BitSet::isEmpty);
+        }
+        return candidates;
+    }
+
+    private static int cardinality(Map<String, BitSet> candidates) {
+        return candidates.values().stream().mapToInt(BitSet::cardinality).sum();
+    }
+
+    private List<DatasetEntry> flattenFilteredEntries(List<Catalog> catalogs, List<Criterion> criteria) {
         // Empty catalogs get a sentinel to survive flattening; non-matching catalogs are dropped.
-        Stream<Catalog> filtered = stream
-                .map(c -> c.getDatasets() == null || c.getDatasets().isEmpty()
-                        ? withSentinel(c)
-                        : withFilteredDatasets(c, criteria));
+        Function<Catalog, Catalog> filter = c -> c.getDatasets() == null || c.getDatasets().isEmpty()
+                ? withSentinel(c)
+                : withFilteredDatasets(c, criteria);
+        // An ordered parallel stream collects in encounter order, so the merge does not depend on scheduling
+        List<Catalog> filtered = isParallel(catalogs)
+                ? parallelPool.submit(() -> catalogs.parallelStream().map(filter).toList()).join()
+                : catalogs.stream().map(filter).toList();
 
         // Sentinels have one null dataset, so only truly empty/non-matching catalogs are removed.
-        var nonEmptyFilteredCatalogs = filtered.filter(c -> !c.getDatasets().isEmpty());
+        var nonEmptyFilteredCatalogs = filtered.stream().filter(c -> !c.getDatasets().isEmpty());
 
         return nonEmptyFilteredCatalogs
                 .flatMap(catalog -> catalog.getDatasets().stream().map(ds -> new DatasetEntry(ds, catalog)))
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private void sortEntries(List<DatasetEntry> allFilteredEntries, QuerySpec spec) {
-        // Sort at dataset level; sentinel entries stay after real datasets.
-        var sortField = spec.getSortField();
-        if (sortField != null) {
-            var datasetPath = sortField.startsWith(DATASETS_PREFIX)
-                    ? sortField.substring(DATASETS_PREFIX.length())
-                    : sortField;
-            var comparator = new DatasetComparator(datasetPath, spec.getSortOrder());
-            allFilteredEntries.sort((DatasetEntry e1, DatasetEntry e2) -> compareEntries(e1, e2, comparator));
+    private boolean isParallel(List<Catalog> catalogs) {
+        if (parallelPool == null || catalogs.size() < 2) {
+            return false;
+        }
+        long datasets = 0;
+        for (var catalog : catalogs) {
+            datasets += catalog.getDatasets() == null ? 0 : catalog.getDatasets().size();
+            if (datasets >= parallelThreshold) {
+                return true;
+            }
         }
+        return false;
     }
 
-    private List<DatasetEntry> paginateEntries(List<DatasetEntry> allFilteredEntries, QuerySpec spec) {
-        // Paginate at dataset level; sentinel (null dataset) entries do not count.
-        return allFilteredEntries.stream()
-                .filter(e -> e.dataset() != null)
+    private List<DatasetEntry> sortAndPaginateEntries(List<DatasetEntry> datasetEntries, QuerySpec spec) {
+        // A single dataset is never compared, so its sort field is not resolved either
+        if (datasetEntries.size() < 2) {
+            return paginateEntries(datasetEntries, spec);
+        }
+
+        var comparator = new DatasetComparator(toDatasetPath(spec.getSortField()), spec.getSortOrder());
+        var keyedEntries = new ArrayList<KeyedEntry>(datasetEntries.size());
+        for (int position = 0; position < datasetEntries.size(); position++) {
+            var entry = datasetEntries.get(position);
+            keyedEntries.add(new KeyedEntry(entry, comparator.sortKey(entry.dataset()), position));
+        }
+        // Ties keep the flattening order, as a stable sort would
+        Comparator<KeyedEntry> order = (left, right) -> {
+            int result = comparator.compareKeys(left.key(), right.key());
+            return result != 0 ? result : Integer.compare(left.position(), right.position());
+        };
+
+        long wanted = (long) spec.getOffset() + spec.getLimit();
+        List<KeyedEntry> sorted;
+        if (wanted <= 0) {
+            return List.of();
+        } else if (wanted < keyedEntries.size()) {
+            sorted = selectFirst(keyedEntries, (int) wanted, order);
+        } else {
+            keyedEntries.sort(order);
+            sorted = keyedEntries;
+        }
+
+        return sorted.stream()
+                .skip(spec.getOffset())
+                .limit(spec.getLimit())
+                .map(KeyedEntry::entry)
+                .toList();
+    }
+
+    /**
+     * Returns the {@code count} smallest entries in order, keeping only {@code count} entries in a max-heap while scanning.
+     */
+    private static List<KeyedEntry> selectFirst(List<KeyedEntry> entries, int count, Comparator<KeyedEntry> order) {
+        var heap = new PriorityQueue<KeyedEntry>(count, order.reversed());
+        for (var entry : entries) {
+            if (heap.size() < count) {
+                heap.add(entry);
+            } else if (order.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        var selected = new ArrayList<>(heap);
+        selected.sort(order);
+        return selected;
+    }
+
+    private List<DatasetEntry> paginateEntries(List<DatasetEntry> datasetEntries, QuerySpec spec) {
+        return datasetEntries.stream()
                 .skip(spec.getOffset())
                 .limit(spec.getLimit())
                 .toList();
@@ -149,20 +329,6 @@ public class DatasetAwareQueryResolver implements QueryResolver<Catalog> {
         return Stream.concat(regrouped, emptyCatalogStream);
     }
 
-    private static int compareEntries(DatasetEntry left, DatasetEntry right, DatasetComparator comparator) {
-        int result;
-        if (left.dataset() == null && right.dataset() == null) {
-            result = 0;
-        } else if (left.dataset() == null) {
-            result = 1;
-        } else if (right.dataset() == null) {
-            result = -1;
-        } else {
-            result = comparator.compare(left.dataset(), right.dataset());
-        }
-        return result;
-    }
-
     /**
      * Returns a copy of {@code catalog} containing only the datasets that satisfy all
      * {@code criteria}. Each criterion's {@code operandLeft} is stripped of the
@@ -192,14 +358,17 @@ public class DatasetAwareQueryResolver implements QueryResolver<Catalog> {
      * delegates to the {@link CriterionOperatorRegistry}.
      */
     private Predicate<Dataset> toDatasetLevelPredicate(Criterion criterion) {
-        var operandLeft = criterion.getOperandLeft().toString();
-        var datasetPath = operandLeft.startsWith(DATASETS_PREFIX)
-                ? operandLeft.substring(DATASETS_PREFIX.length())
-                : operandLeft;
+        var datasetPath = toDatasetPath(criterion.getOperandLeft().toString());
         var datasetCriterion = new Criterion(datasetPath, criterion.getOperator(), criterion.getOperandRight());
         return criterionOperatorRegistry.<Dataset>toPredicate(datasetCriterion);
     }
 
+    static String toDatasetPath(String operandLeft) {
+        return operandLeft.startsWith(DATASETS_PREFIX)
+                ? operandLeft.substring(DATASETS_PREFIX.length())
+                : operandLeft;
+    }
+
     /** Returns a copy of {@code catalog} with a single null sentinel dataset so it survives the pipeline. */
     private static Catalog withSentinel(Catalog catalog) {
         var datasets = new ArrayList<Dataset>();
@@ -215,5 +384,8 @@ public class DatasetAwareQueryResolver implements QueryResolver<Catalog> {
 
     /** Pairs a {@link Dataset} with its source {@link Catalog} for regrouping after pagination. */
     private record DatasetEntry(Dataset dataset, Catalog catalog) {}
+
+    /** A dataset entry with its extracted sort value and its position before sorting. */
+    private record KeyedEntry(DatasetEntry entry, Object key, int position) {}
 }
 
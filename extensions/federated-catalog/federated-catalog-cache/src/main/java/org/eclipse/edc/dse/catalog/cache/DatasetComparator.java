@@ -20,7 +20,6 @@ import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.util.reflection.ReflectionException;
 
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Comparator;
 
 /**
@@ -29,6 +28,9 @@ import java.util.Comparator;
  * and JSON-LD {@code @value} unwrapping.
  *
  * <p>Null values are sorted last on ASC and first on DESC.
+ *
+ * <p>To sort many datasets, extract each sort value once with {@link #sortKey(Dataset)} and compare
+ * the values with {@link #compareKeys(Object, Object)}.
  */
 public class DatasetComparator implements Comparator<Dataset>, Serializable {
 
@@ -44,21 +46,29 @@ public class DatasetComparator implements Comparator<Dataset>, Serializable {
 
     @Override
     public int compare(Dataset d1, Dataset d2) {
-        int result;
-        try {
-            Object v1 = DseReflectionUtil.getFieldValue(path, d1);
-            Object v2 = DseReflectionUtil.getFieldValue(path, d2);
-            result = compareValues(v1, v2);
+        return compareKeys(sortKey(d1), sortKey(d2));
+    }
 
+    /**
+     * Returns the value the dataset is sorted by.
+     */
+    public Object sortKey(Dataset dataset) {
+        try {
+            return DseReflectionUtil.getFieldValue(path, dataset);
         } catch (ReflectionException e) {
             throw new IllegalArgumentException(
                     "Cannot sort by '%s': field does not exist in Dataset".formatted(path), e);
         }
+    }
 
+    /**
+     * Compares two values returned by {@link #sortKey(Dataset)}, in the sort order of this comparator.
+     */
+    public int compareKeys(Object v1, Object v2) {
+        int result = compareValues(v1, v2);
         if (sortOrder == SortOrder.DESC) {
             result = -result;
         }
-
         return result;
     }
 
@@ -90,17 +100,9 @@ public class DatasetComparator implements Comparator<Dataset>, Serializable {
         }
     }
 
+    // Called through the Comparable interface, the bridge method throws ClassCastException for values of another type
+    @SuppressWarnings("unchecked")
     private int compareComparable(Comparable<?> left, Object right) {
-        try {
-            var compareTo = left.getClass().getMethod("compareTo", Object.class);
-            return (int) compareTo.invoke(left, right);
-        } catch (NoSuchMethodException | IllegalAccessException e) {
-            throw new IllegalArgumentException("Sort field '" + path + "' is not comparable", e);
-        } catch (InvocationTargetException e) {
-            if (e.getCause() instanceof ClassCastException castException) {
-                throw castException;
-            }
-            throw new IllegalArgumentException("Failed to compare values for sort field '" + path + "'", e);
-        }
+        return ((Comparable<Object>) left).compareTo(right);
     }
 }
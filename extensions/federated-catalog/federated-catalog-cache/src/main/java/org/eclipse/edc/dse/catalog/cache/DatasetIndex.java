@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.spi.query.PropertyLookup;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Secondary index over the datasets of the cached catalogs, mapping the values of configured dataset-level
+ * property paths to the positions of the datasets holding them.
+ *
+ * <p>Values are resolved with the same {@link PropertyLookup} as the query predicates. List values are indexed
+ * element by element and every value is indexed under its string form, so a lookup always returns a superset of
+ * the datasets an {@code =} or {@code in} criterion with string operands can match. Candidates must still be
+ * checked against the criterion.
+ *
+ * <p>This class is not thread-safe. The postings of a catalog are never modified once added, so a writer can keep
+ * updating an index while readers use a {@link #copy()} of it, which is how {@link CustomFederatedCatalogCache}
+ * publishes its snapshots.
+ *
+ * <p>When a catalog is added with the {@link CatalogFingerprint} hashes of its datasets, the values extracted from
+ * each dataset are kept, and a later {@link #add(String, Catalog, List)} of the same catalog only extracts the values
+ * of the datasets whose hash is new. Only the positions of the datasets are recomputed.
+ */
+public class DatasetIndex {
+
+    public static final String ID_PATH = "id";
+
+    private final Set<String> paths;
+    private final PropertyLookup propertyLookup;
+    private final Map<String, CatalogPostings> postingsByCatalog;
+
+    public DatasetIndex(Collection<String> paths, PropertyLookup propertyLookup) {
+        this(Set.copyOf(paths), propertyLookup, new HashMap<>());
+    }
+
+    private DatasetIndex(Set<String> paths, PropertyLookup propertyLookup, Map<String, CatalogPostings> postingsByCatalog) {
+        this.paths = paths;
+        this.propertyLookup = propertyLookup;
+        this.postingsByCatalog = postingsByCatalog;
+    }
+
+    public boolean isIndexed(String path) {
+        return paths.contains(path);
+    }
+
+    /**
+     * Returns an index holding the same catalogs, which can be updated without affecting this one.
+     * Only the catalog keys are copied, the postings of each catalog are shared.
+     */
+    public DatasetIndex copy() {
+        return new DatasetIndex(paths, propertyLookup, new HashMap<>(postingsByCatalog));
+    }
+
+    public void add(String catalogKey, Catalog catalog) {
+        add(catalogKey, catalog, null);
+    }
+
+    /**
+     * Indexes the datasets of {@code catalog}, replacing the catalog previously added under {@code catalogKey}.
+     *
+     * @param datasetHashes the {@link CatalogFingerprint#datasets()} hashes of the catalog, or null to extract the
+     *                      values of every dataset without keeping them
+     */
+    public void add(String catalogKey, Catalog catalog, List<String> datasetHashes) {
+        var previous = postingsByCatalog.remove(catalogKey);
+        var datasets = catalog.getDatasets();
+        if (datasets == null || datasets.isEmpty()) {
+            return;
+        }
+
+        var previousValues = previous != null ? previous.valuesByHash() : Map.<String, Map<String, Set<String>>>of();
+        var valuesByHash = new HashMap<String, Map<String, Set<String>>>();
+        var postings = new HashMap<String, Map<String, BitSet>>();
+        paths.forEach(path -> postings.put(path, new HashMap<>()));
+        for (int position = 0; position < datasets.size(); position++) {
+            Map<String, Set<String>> datasetValues;
+            if (datasetHashes != null) {
+                var hash = datasetHashes.get(position);
+                datasetValues = previousValues.get(hash);
+                if (datasetValues == null) {
+                    datasetValues = valuesByHash.get(hash);
+                }
+                if (datasetValues == null) {
+                    datasetValues = indexValues(datasets.get(position));
+                }
+                valuesByHash.put(hash, datasetValues);
+            } else {
+                datasetValues = indexValues(datasets.get(position));
+            }
+
+            var finalPosition = position;
+            datasetValues.forEach((path, values) -> values.forEach(value -> postings.get(path)
+                    .computeIfAbsent(value, v -> new BitSet(datasets.size()))
+                    .set(finalPosition)));
+        }
+        postingsByCatalog.put(catalogKey, new CatalogPostings(postings, valuesByHash));
+    }
+
+    public void remove(String catalogKey) {
+        postingsByCatalog.remove(catalogKey);
+    }
+
+    /**
+     * Returns, per catalog key, the positions of the datasets whose value at {@code path} is one of {@code values}.
+     * Catalogs without any such dataset are absent from the result. The returned bit sets are copies.
+     */
+    public Map<String, BitSet> lookup(String path, Collection<String> values) {
+        if (!paths.contains(path)) {
+            throw new IllegalArgumentException("Path is not indexed: " + path);
+        }
+
+        var result = new HashMap<String, BitSet>();
+        postingsByCatalog.forEach((catalogKey, catalogPostings) -> {
+            var pathPostings = catalogPostings.postings().get(path);
+            for (var value : values) {
+                var positions = pathPostings.get(value);
+                if (positions != null) {
+                    result.computeIfAbsent(catalogKey, k -> new BitSet()).or(positions);
+                }
+            }
+        });
+        return result;
+    }
+
+    private Map<String, Set<String>> indexValues(Dataset dataset) {
+        var values = new HashMap<String, Set<String>>();
+        paths.forEach(path -> values.put(path, indexValues(path, dataset)));
+        return values;
+    }
+
+    private Set<String> indexValues(String path, Dataset dataset) {
+        if (dataset == null) {
+            return Set.of();
+        }
+        var values = new LinkedHashSet<String>();
+        try {
+            collect(propertyLookup.getProperty(path, dataset), values);
+        } catch (RuntimeException e) {
+            // e.g. an out-of-range array indexer, the predicate fails the same way on this dataset
+            return Set.of();
+        }
+        return values;
+    }
+
+    private static void collect(Object value, Set<String> values) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> collect(element, values));
+        } else if (value instanceof Enum<?> enumValue) {
+            values.add(enumValue.name());
+            values.add(enumValue.toString());
+        } else {
+            values.add(value.toString());
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of dataset-level property paths, the {@code datasets.} prefix being optional.
+     */
+    public static List<String> parsePaths(String paths) {
+        var result = new ArrayList<String>();
+        if (paths == null) {
+            return result;
+        }
+        for (var path : paths.split(",")) {
+            var trimmed = path.trim();
+            if (trimmed.startsWith(DatasetAwareQueryResolver.DATASETS_PREFIX)) {
+                trimmed = trimmed.substring(DatasetAwareQueryResolver.DATASETS_PREFIX.length());
+            }
+            if (!trimmed.isEmpty() && !result.contains(trimmed)) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The postings of one catalog, never modified once built.
+     *
+     * @param postings     path -> value -> positions of the matching datasets in the catalog
+     * @param valuesByHash dataset hash -> path -> values extracted from the dataset, empty when added without hashes
+     */
+    private record CatalogPostings(Map<String, Map<String, BitSet>> postings, Map<String, Map<String, Set<String>>> valuesByHash) {
+    }
+}
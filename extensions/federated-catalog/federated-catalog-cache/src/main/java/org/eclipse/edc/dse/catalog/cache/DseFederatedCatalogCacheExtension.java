@@ -17,11 +17,22 @@ import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.dse.common.lib.DsePropertyLookup;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -33,6 +44,19 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * {@link DsePropertyLookup} into that registry so dataset-level property paths are
  * resolved correctly during query execution.</p>
  *
+ * <p>The datasets of the cached catalogs are indexed on the configured property paths, see
+ * {@link DatasetIndex}. The results of repeated queries are cached until the next cache update, see
+ * {@link QueryResultCache}.</p>
+ *
+ * <p>When a snapshot path is configured, the cached catalogs are restored from it when the cache is
+ * created and persisted to it periodically, see {@link CatalogSnapshotPersister}.</p>
+ *
+ * <p>Queries over large caches are filtered in a dedicated {@link ForkJoinPool}, bounded by the
+ * configured parallelism.</p>
+ *
+ * <p>Catalogs saved by the crawler are published to queries at most once per configured interval,
+ * the pending ones being published periodically, see {@link CustomFederatedCatalogCache#publish()}.</p>
+ *
  * <p>The {@link Provider} is non-default and unconditionally overrides
  * {@code InMemoryFederatedCatalogCache} from EDC core.</p>
  */
@@ -41,18 +65,126 @@ public class DseFederatedCatalogCacheExtension implements ServiceExtension {
 
     public static final String EXTENSION_NAME = "DSE Federated Catalog Cache";
     public static final String IN = "in";
+    public static final String DEFAULT_INDEXED_PATHS = DatasetIndex.ID_PATH;
+    public static final int DEFAULT_QUERY_RESULT_CACHE_SIZE = 256;
+    public static final long DEFAULT_SNAPSHOT_INTERVAL_SECONDS = 60;
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+    public static final long DEFAULT_PUBLISH_INTERVAL_MILLIS = 1000;
+
+    @Setting(description = "Comma-separated dataset property paths indexed by the catalog cache for '=' and 'in' filters, empty to disable the index",
+            defaultValue = DEFAULT_INDEXED_PATHS, key = "dse.catalog.cache.indexed.paths", required = false)
+    public String indexedPaths;
+
+    @Setting(description = "Maximum number of distinct queries whose results are cached until the next catalog cache update, 0 to disable",
+            defaultValue = DEFAULT_QUERY_RESULT_CACHE_SIZE + "", key = "dse.catalog.cache.query.results.max", required = false)
+    public int queryResultCacheSize;
+
+    @Setting(description = "Local file the cached catalogs are persisted to and restored from at startup, unset to disable",
+            key = "dse.catalog.cache.snapshot.path", required = false)
+    public String snapshotPath;
+
+    @Setting(description = "Interval in seconds between two writes of the catalog cache snapshot, when the cached catalogs changed",
+            defaultValue = DEFAULT_SNAPSHOT_INTERVAL_SECONDS + "", key = "dse.catalog.cache.snapshot.interval.seconds", required = false)
+    public long snapshotIntervalSeconds;
+
+    @Setting(description = "Minimum number of cached datasets from which a catalog query is filtered in parallel",
+            defaultValue = DEFAULT_PARALLEL_THRESHOLD + "", key = "dse.catalog.cache.query.parallel.threshold", required = false)
+    public int parallelThreshold;
+
+    @Setting(description = "Number of threads filtering large catalog queries in parallel, 0 for the number of available processors, 1 to disable the parallel evaluation",
+            defaultValue = "0", key = "dse.catalog.cache.query.parallelism", required = false)
+    public int parallelism;
+
+    @Setting(description = "Whether saved catalogs are compacted by interning strings and sharing identical policies and data services",
+            defaultValue = "true", key = "dse.catalog.cache.compact", required = false)
+    public boolean compactCatalogs;
+
+    @Setting(description = "Minimum interval in milliseconds between two publications of the catalogs saved by the crawler to queries, 0 to publish every change right away",
+            defaultValue = DEFAULT_PUBLISH_INTERVAL_MILLIS + "", key = "dse.catalog.cache.publish.interval.ms", required = false)
+    public long publishIntervalMillis;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private CatalogSnapshotPersister snapshotPersister;
+    private ForkJoinPool queryPool;
+    private ScheduledExecutorService publisher;
+    private CustomFederatedCatalogCache cache;
+    private Monitor monitor;
 
     @Override
     public String name() {
         return EXTENSION_NAME;
     }
+
+    @Override
+    public void start() {
+        if (snapshotPersister != null) {
+            snapshotPersister.start();
+        }
+        if (publisher != null) {
+            publisher.scheduleWithFixedDelay(this::publishSafely, publishIntervalMillis, publishIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+        if (snapshotPersister != null) {
+            snapshotPersister.stop();
+        }
+        if (queryPool != null) {
+            queryPool.shutdown();
+        }
+    }
+
     @Provider
-    public FederatedCatalogCache federatedCatalogCache() {
+    public FederatedCatalogCache federatedCatalogCache(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+        var propertyLookup = new DsePropertyLookup();
         var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
-        criterionOperatorRegistry.registerPropertyLookup(new DsePropertyLookup());
+        criterionOperatorRegistry.registerPropertyLookup(propertyLookup);
         criterionOperatorRegistry.registerOperatorPredicate(IN, DseInOperatorPredicate.in());
         var lockManager = new LockManager(new ReentrantReadWriteLock());
-        var queryResolver = new DatasetAwareQueryResolver(criterionOperatorRegistry);
-        return new CustomFederatedCatalogCache(lockManager, queryResolver);
+        var threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        if (threads > 1) {
+            queryPool = new ForkJoinPool(threads);
+        }
+        var queryResolver = new DatasetAwareQueryResolver(criterionOperatorRegistry, queryPool, Math.max(0, parallelThreshold));
+        var paths = DatasetIndex.parsePaths(indexedPaths);
+        // The index resolves values with the same lookup as the query predicates, so both see the same dataset properties
+        var datasetIndex = paths.isEmpty() ? null : new DatasetIndex(paths, propertyLookup);
+        var interner = compactCatalogs ? new CatalogInterner() : null;
+        cache = new CustomFederatedCatalogCache(lockManager, queryResolver, datasetIndex, Math.max(0, queryResultCacheSize), interner,
+                Math.max(0, publishIntervalMillis));
+        if (publishIntervalMillis > 0) {
+            publisher = executorInstrumentation.instrument(
+                    Executors.newSingleThreadScheduledExecutor(r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        thread.setName("CatalogCachePublisher");
+                        return thread;
+                    }), "CatalogCachePublisher");
+        }
+        if (snapshotPath != null && !snapshotPath.isBlank()) {
+            snapshotPersister = new CatalogSnapshotPersister(cache, Path.of(snapshotPath), typeManager.getMapper(), context.getMonitor(),
+                    executorInstrumentation, Math.max(1, snapshotIntervalSeconds));
+            // Restored before the crawler starts, so the first queries after a restart see the previous catalogs
+            snapshotPersister.restore();
+        }
+        return cache;
+    }
+
+    // A failed run must not cancel the next ones
+    private void publishSafely() {
+        try {
+            cache.publish();
+        } catch (RuntimeException e) {
+            monitor.warning("Failed to publish the saved catalogs", e);
+        }
     }
 }
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded least-recently-used cache of query results, keyed by a normalized {@link QuerySpec}.
+ *
+ * <p>Two specs share a result when they have the same filter criteria in any order, the same sort field with or
+ * without the {@code datasets.} prefix, the same sort order when sorted, and the same offset and limit.
+ *
+ * <p>The cache does not track changes to the queried catalogs. {@link CustomFederatedCatalogCache} creates a new
+ * one with every snapshot it publishes, so cached results never outlive the catalogs they were computed from.
+ */
+public class QueryResultCache {
+
+    private final Map<QueryKey, List<Catalog>> results;
+
+    public QueryResultCache(int maxEntries) {
+        this.results = Collections.synchronizedMap(new LinkedHashMap<QueryKey, List<Catalog>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, List<Catalog>> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the cached result of {@code spec}, or resolves and caches it. Failed resolutions are not cached.
+     */
+    public List<Catalog> get(QuerySpec spec, Supplier<List<Catalog>> resolver) {
+        var key = QueryKey.of(spec);
+        var cached = results.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Resolved outside the lock, concurrent misses on the same key may resolve it more than once
+        var result = List.copyOf(resolver.get());
+        results.put(key, result);
+        return result;
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    private record QueryKey(Set<CriterionKey> filters, String sortField, SortOrder sortOrder, int offset, int limit) {
+
+        static QueryKey of(QuerySpec spec) {
+            // Criteria are combined with AND, so neither their order nor duplicates change the result
+            var filters = spec.getFilterExpression().stream()
+                    .map(CriterionKey::of)
+                    .collect(Collectors.toUnmodifiableSet());
+            var sortField = spec.getSortField() == null ? null : DatasetAwareQueryResolver.toDatasetPath(spec.getSortField());
+            var sortOrder = sortField == null ? null : spec.getSortOrder();
+            return new QueryKey(filters, sortField, sortOrder, spec.getOffset(), spec.getLimit());
+        }
+    }
+
+    private record CriterionKey(Object operandLeft, String operator, Object operandRight) {
+
+        static CriterionKey of(Criterion criterion) {
+            // Copied so that a caller modifying its operand list cannot change the key
+            var operandRight = criterion.getOperandRight() instanceof Collection<?> collection
+                    ? new ArrayList<>(collection)
+                    : criterion.getOperandRight();
+            return new CriterionKey(criterion.getOperandLeft(), criterion.getOperator(), operandRight);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogFingerprintTest {
+
+    @Test
+    @DisplayName("catalogs built separately with the same content have the same fingerprint")
+    void of_sameContent_equal() {
+        assertThat(CatalogFingerprint.of(catalog("cat-1", dataset("ds-1", "Flights"))))
+                .isEqualTo(CatalogFingerprint.of(catalog("cat-1", dataset("ds-1", "Flights"))));
+    }
+
+    @Test
+    @DisplayName("property order does not change the dataset hash")
+    void of_propertyOrder_ignored() {
+        var first = new LinkedHashMap<String, Object>();
+        first.put("title", "Flights");
+        first.put("keywords", List.of("air"));
+        var second = new LinkedHashMap<String, Object>();
+        second.put("keywords", List.of("air"));
+        second.put("title", "Flights");
+
+        assertThat(CatalogFingerprint.of(Dataset.Builder.newInstance().id("ds-1").properties(first).build()))
+                .isEqualTo(CatalogFingerprint.of(Dataset.Builder.newInstance().id("ds-1").properties(second).build()));
+    }
+
+    @Test
+    @DisplayName("a changed dataset only changes its own hash")
+    void of_changedDataset_changesItsHashOnly() {
+        var original = CatalogFingerprint.of(catalog("cat-1", dataset("ds-1", "Flights"), dataset("ds-2", "Trains")));
+        var updated = CatalogFingerprint.of(catalog("cat-1", dataset("ds-1", "Flights"), dataset("ds-2", "Buses")));
+
+        assertThat(updated.catalog()).isEqualTo(original.catalog());
+        assertThat(updated.datasets().get(0)).isEqualTo(original.datasets().get(0));
+        assertThat(updated.datasets().get(1)).isNotEqualTo(original.datasets().get(1));
+    }
+
+    @Test
+    @DisplayName("offers are part of the dataset hash")
+    void of_changedOffer_changesHash() {
+        var withoutOffer = dataset("ds-1", "Flights");
+        var withOffer = Dataset.Builder.newInstance().id("ds-1").property("title", "Flights")
+                .offer("offer-1", Policy.Builder.newInstance().assigner("provider").build())
+                .build();
+
+        assertThat(CatalogFingerprint.of(withOffer)).isNotEqualTo(CatalogFingerprint.of(withoutOffer));
+    }
+
+    @Test
+    @DisplayName("a catalog level change changes the catalog hash")
+    void of_changedParticipant_changesCatalogHash() {
+        var original = Catalog.Builder.newInstance().id("cat-1").participantId("p1").properties(Map.of()).build();
+        var updated = Catalog.Builder.newInstance().id("cat-1").participantId("p2").properties(Map.of()).build();
+
+        assertThat(CatalogFingerprint.of(updated).catalog()).isNotEqualTo(CatalogFingerprint.of(original).catalog());
+    }
+
+    private static Catalog catalog(String id, Dataset... datasets) {
+        return Catalog.Builder.newInstance().id(id).participantId("provider").datasets(List.of(datasets)).build();
+    }
+
+    private static Dataset dataset(String id, String title) {
+        return Dataset.Builder.newInstance().id(id).property("title", title).build();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogInternerTest {
+
+    private final CatalogInterner interner = new CatalogInterner();
+
+    @Test
+    @DisplayName("identical policies and data services of different catalogs are shared")
+    void compact_identicalPoliciesAndDataServices_shared() {
+        var first = interner.compact(catalog("cat-1", "ds-1"));
+        var second = interner.compact(catalog("cat-2", "ds-2"));
+
+        assertThat(second.getDatasets().get(0).getOffers().get("offer"))
+                .isSameAs(first.getDatasets().get(0).getOffers().get("offer"));
+        assertThat(second.getDataServices().get(0)).isSameAs(first.getDataServices().get(0));
+    }
+
+    @Test
+    @DisplayName("property keys and short values are interned")
+    void compact_propertyStrings_interned() {
+        var key = new String("dcterms:format");
+        var value = new String("application/json");
+        var dataset = Dataset.Builder.newInstance().id("ds-1").property(key, value).build();
+        var catalog = Catalog.Builder.newInstance().id("cat-1").participantId("p").datasets(List.of(dataset)).build();
+
+        var properties = interner.compact(catalog).getDatasets().get(0).getProperties();
+
+        var entry = properties.entrySet().iterator().next();
+        assertThat(entry.getKey()).isSameAs("dcterms:format");
+        assertThat(entry.getValue()).isSameAs("application/json");
+    }
+
+    @Test
+    @DisplayName("compacted catalog has the same content as the original")
+    void compact_keepsContent() {
+        var catalog = catalog("cat-1", "ds-1");
+
+        assertThat(CatalogFingerprint.of(interner.compact(catalog))).isEqualTo(CatalogFingerprint.of(catalog));
+    }
+
+    private static Catalog catalog(String id, String datasetId) {
+        var policy = Policy.Builder.newInstance().assigner("provider").build();
+        var dataset = Dataset.Builder.newInstance().id(datasetId).property("title", "Flights").offer("offer", policy).build();
+        var dataService = DataService.Builder.newInstance().id("service").endpointUrl("https://provider/dsp").build();
+        return Catalog.Builder.newInstance()
+                .id(id)
+                .participantId("provider")
+                .datasets(List.of(dataset))
+                .dataServices(List.of(dataService))
+                .build();
+    }
+}
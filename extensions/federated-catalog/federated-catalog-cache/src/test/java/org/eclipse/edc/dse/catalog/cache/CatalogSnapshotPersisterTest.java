@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.dse.common.lib.DsePropertyLookup;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CatalogSnapshotPersisterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Monitor monitor = mock();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("persisted catalogs are restored into a new cache")
+    void persist_thenRestore_restoresCatalogs() throws Exception {
+        var file = directory.resolve("catalogs.json.gz");
+        var cache = newCache();
+        cache.save(catalog("cat-1", "Flights"));
+        cache.save(catalog("cat-2", "Trains"));
+        assertThat(persister(cache, file).persist()).isTrue();
+
+        var restarted = newCache();
+        var restored = persister(restarted, file).restore();
+
+        assertThat(restored).isEqualTo(2);
+        assertThat(restarted.query(QuerySpec.none()))
+                .flatExtracting(Catalog::getDatasets)
+                .extracting(Dataset::getId)
+                .containsExactlyInAnyOrder("ds-cat-1", "ds-cat-2");
+    }
+
+    @Test
+    @DisplayName("snapshot is only written again when the cached catalogs changed")
+    void persist_unchangedCatalogs_skipsWrite() throws Exception {
+        var file = directory.resolve("catalogs.json.gz");
+        var cache = newCache();
+        var persister = persister(cache, file);
+        cache.save(catalog("cat-1", "Flights"));
+
+        assertThat(persister.persist()).isTrue();
+        cache.save(catalog("cat-1", "Flights"));
+        assertThat(persister.persist()).isFalse();
+        cache.save(catalog("cat-1", "Flights updated"));
+        assertThat(persister.persist()).isTrue();
+    }
+
+    @Test
+    @DisplayName("missing or corrupt snapshot leaves the cache empty")
+    void restore_missingOrCorruptFile_restoresNothing() throws Exception {
+        var file = directory.resolve("catalogs.json.gz");
+        var cache = newCache();
+
+        assertThat(persister(cache, file).restore()).isZero();
+        Files.writeString(file, "not a snapshot");
+        assertThat(persister(cache, file).restore()).isZero();
+        assertThat(cache.query(QuerySpec.none())).isEmpty();
+    }
+
+    private CatalogSnapshotPersister persister(CustomFederatedCatalogCache cache, Path file) {
+        return new CatalogSnapshotPersister(cache, file, mapper, monitor, ExecutorInstrumentation.noop(), 60);
+    }
+
+    private static CustomFederatedCatalogCache newCache() {
+        var registry = CriterionOperatorRegistryImpl.ofDefaults();
+        registry.registerPropertyLookup(new DsePropertyLookup());
+        return new CustomFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), new DatasetAwareQueryResolver(registry));
+    }
+
+    private static Catalog catalog(String id, String title) {
+        var dataset = Dataset.Builder.newInstance().id("ds-" + id).property("title", title).build();
+        return Catalog.Builder.newInstance().id(id).participantId("provider-" + id).dataset(dataset).build();
+    }
+}
@@ -27,7 +27,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -170,6 +173,235 @@ class CustomFederatedCatalogCacheTest {
 
             assertThat(cache.query(QuerySpec.none())).hasSize(1);
         }
+
+        @Test
+        @DisplayName("expired entries are still returned until deleteExpired runs")
+        void expireAll_withoutDeleteExpired_keepsEntries() {
+            cache.save(catalog("cat-1", "p1"));
+            cache.expireAll();
+
+            assertThat(cache.query(QuerySpec.none())).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("query result cache")
+    class QueryResults {
+
+        private CustomFederatedCatalogCache cachingCache;
+
+        @BeforeEach
+        void setUp() {
+            var registry = CriterionOperatorRegistryImpl.ofDefaults();
+            registry.registerPropertyLookup(new DsePropertyLookup());
+            cachingCache = new CustomFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()),
+                    new DatasetAwareQueryResolver(registry), null, 16);
+        }
+
+        @Test
+        @DisplayName("repeated query returns the cached result")
+        void query_repeated_returnsCachedResult() {
+            cachingCache.save(catalog("cat-1", "p1"));
+
+            var first = cachingCache.query(QuerySpec.none());
+
+            assertThat(cachingCache.query(QuerySpec.none())).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("saving an unchanged catalog keeps cached results")
+        void save_unchangedCatalog_keepsResult() {
+            cachingCache.save(catalog("cat-1", "p1"));
+            var first = cachingCache.query(QuerySpec.none());
+
+            cachingCache.save(catalog("cat-1", "p1"));
+
+            assertThat(cachingCache.query(QuerySpec.none())).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("a crawl in which no catalog changed keeps the snapshot and cached results")
+        void crawl_unchangedCatalogs_keepsSnapshotAndResult() {
+            cachingCache.save(catalog("cat-1", "p1"));
+            var catalogs = cachingCache.catalogs();
+            var first = cachingCache.query(QuerySpec.none());
+
+            cachingCache.expireAll();
+            cachingCache.save(catalog("cat-1", "p1"));
+            cachingCache.deleteExpired();
+
+            assertThat(cachingCache.catalogs()).isSameAs(catalogs);
+            assertThat(cachingCache.query(QuerySpec.none())).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("save invalidates cached results")
+        void save_afterQuery_invalidatesResult() {
+            cachingCache.save(catalog("cat-1", "p1"));
+            cachingCache.query(QuerySpec.none());
+
+            cachingCache.save(catalog("cat-2", "p2"));
+
+            assertThat(cachingCache.query(QuerySpec.none())).extracting(Catalog::getId).containsExactlyInAnyOrder("cat-1", "cat-2");
+        }
+
+        @Test
+        @DisplayName("deleteExpired invalidates cached results")
+        void deleteExpired_afterQuery_invalidatesResult() {
+            cachingCache.save(catalog("cat-1", "p1"));
+            cachingCache.query(QuerySpec.none());
+
+            cachingCache.expireAll();
+            cachingCache.deleteExpired();
+
+            assertThat(cachingCache.query(QuerySpec.none())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("coalesced publication")
+    class CoalescedPublication {
+
+        private CustomFederatedCatalogCache coalescingCache;
+
+        @BeforeEach
+        void setUp() {
+            var registry = CriterionOperatorRegistryImpl.ofDefaults();
+            registry.registerPropertyLookup(new DsePropertyLookup());
+            coalescingCache = new CustomFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()),
+                    new DatasetAwareQueryResolver(registry), null, 16, null, TimeUnit.HOURS.toMillis(1));
+        }
+
+        @Test
+        @DisplayName("catalogs saved within the publish interval are published together")
+        void save_withinInterval_publishedTogether() {
+            coalescingCache.save(catalog("cat-1", "p1"));
+            var published = coalescingCache.catalogs();
+
+            coalescingCache.save(catalog("cat-2", "p2"));
+            coalescingCache.save(catalog("cat-3", "p3"));
+
+            assertThat(coalescingCache.catalogs()).isSameAs(published).containsOnlyKeys("cat-1");
+            coalescingCache.publish();
+            assertThat(coalescingCache.query(QuerySpec.none())).extracting(Catalog::getId).containsExactly("cat-1", "cat-2", "cat-3");
+        }
+
+        @Test
+        @DisplayName("pending catalogs are published when the next crawl starts")
+        void expireAll_publishesPendingCatalogs() {
+            coalescingCache.save(catalog("cat-1", "p1"));
+            coalescingCache.save(catalog("cat-2", "p2"));
+
+            coalescingCache.expireAll();
+
+            assertThat(coalescingCache.query(QuerySpec.none())).extracting(Catalog::getId).containsExactly("cat-1", "cat-2");
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrency")
+    class Concurrency {
+
+        @Test
+        @DisplayName("query does not wait for a writer holding the write lock")
+        void query_whileWriteLockHeld_doesNotBlock() throws Exception {
+            var lock = new ReentrantReadWriteLock();
+            var registry = CriterionOperatorRegistryImpl.ofDefaults();
+            registry.registerPropertyLookup(new DsePropertyLookup());
+            var lockedCache = new CustomFederatedCatalogCache(new LockManager(lock), new DatasetAwareQueryResolver(registry));
+            lockedCache.save(catalog("cat-1", "p1"));
+
+            lock.writeLock().lock();
+            try {
+                var result = CompletableFuture.supplyAsync(() -> lockedCache.query(QuerySpec.none()))
+                        .get(5, TimeUnit.SECONDS);
+
+                assertThat(result).extracting(Catalog::getId).containsExactly("cat-1");
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("indexed queries")
+    class IndexedQueries {
+
+        private CustomFederatedCatalogCache indexedCache;
+        private CustomFederatedCatalogCache scanningCache;
+
+        @BeforeEach
+        void setUp() {
+            var propertyLookup = new DsePropertyLookup();
+            var registry = CriterionOperatorRegistryImpl.ofDefaults();
+            registry.registerPropertyLookup(propertyLookup);
+            registry.registerOperatorPredicate(DseFederatedCatalogCacheExtension.IN, DseInOperatorPredicate.in());
+            var resolver = new DatasetAwareQueryResolver(registry);
+            indexedCache = new CustomFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), resolver,
+                    new DatasetIndex(List.of("id", "properties.dcterms:title"), propertyLookup));
+            scanningCache = new CustomFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), resolver);
+
+            for (var target : List.of(indexedCache, scanningCache)) {
+                target.save(catalogWithDataset("cat-a", "provider-a", "dcterms:title", "Aviation"));
+                target.save(catalogWithDataset("cat-b", "provider-b", "dcterms:title", "Railway"));
+                target.save(catalogWithDataset("cat-c", "provider-c", "dcterms:title", "Aviation"));
+                target.save(Catalog.Builder.newInstance().id("cat-empty").participantId("provider-e").build());
+            }
+        }
+
+        @Test
+        @DisplayName("equality and in filters on indexed paths return the same result as a scan")
+        void query_indexedCriteria_matchesScan() {
+            var specs = List.of(
+                    QuerySpec.Builder.newInstance().filter(new Criterion("id", "=", "ds-cat-b")).build(),
+                    QuerySpec.Builder.newInstance().filter(new Criterion("datasets.properties.dcterms:title", "=", "Aviation")).build(),
+                    QuerySpec.Builder.newInstance().filter(new Criterion("properties.dcterms:title", "in", List.of("Railway", "Unknown"))).build(),
+                    QuerySpec.Builder.newInstance()
+                            .filter(List.of(new Criterion("properties.dcterms:title", "=", "Aviation"), new Criterion("id", "in", List.of("ds-cat-c"))))
+                            .build(),
+                    QuerySpec.Builder.newInstance()
+                            .filter(List.of(new Criterion("properties.dcterms:title", "=", "Aviation"), new Criterion("properties.dcterms:title", "like", "Avi%")))
+                            .sortField("id").sortOrder(SortOrder.DESC)
+                            .build());
+
+            for (var spec : specs) {
+                assertThat(indexedCache.query(spec)).containsExactlyInAnyOrderElementsOf(scanningCache.query(spec));
+            }
+        }
+
+        @Test
+        @DisplayName("equality filter on an indexed path returns the matching dataset and keeps empty catalogs")
+        void query_indexedEquality_returnsMatchingDataset() {
+            var spec = QuerySpec.Builder.newInstance().filter(new Criterion("id", "=", "ds-cat-b")).build();
+
+            var result = indexedCache.query(spec);
+
+            assertThat(result).extracting(Catalog::getId).containsExactlyInAnyOrder("cat-b", "cat-empty");
+        }
+
+        @Test
+        @DisplayName("saving a catalog again replaces its indexed values")
+        void save_sameId_replacesIndexedValues() {
+            indexedCache.save(catalogWithDataset("cat-a", "provider-a", "dcterms:title", "Shipping"));
+
+            var aviation = indexedCache.query(QuerySpec.Builder.newInstance().filter(new Criterion("properties.dcterms:title", "=", "Aviation")).build());
+            var shipping = indexedCache.query(QuerySpec.Builder.newInstance().filter(new Criterion("properties.dcterms:title", "=", "Shipping")).build());
+
+            assertThat(aviation).extracting(Catalog::getId).containsExactlyInAnyOrder("cat-c", "cat-empty");
+            assertThat(shipping).extracting(Catalog::getId).containsExactlyInAnyOrder("cat-a", "cat-empty");
+        }
+
+        @Test
+        @DisplayName("deleteExpired removes the datasets of deleted catalogs from the index")
+        void deleteExpired_removesIndexedValues() {
+            indexedCache.expireAll();
+            indexedCache.save(catalogWithDataset("cat-d", "provider-d", "dcterms:title", "Aviation"));
+            indexedCache.deleteExpired();
+
+            var result = indexedCache.query(QuerySpec.Builder.newInstance().filter(new Criterion("properties.dcterms:title", "=", "Aviation")).build());
+
+            assertThat(result).extracting(Catalog::getId).containsExactly("cat-d");
+        }
     }
 
     // ── helpers ──────────────────────────────────────────────────────────────
@@ -26,8 +26,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -346,6 +348,60 @@ class DatasetAwareQueryResolverTest {
             assertThat(ids).doesNotContain("cat-b");
         }
 
+        @Test
+        @DisplayName("sort with offset and limit: selected page matches the same page of the fully sorted list")
+        void query_sortWithOffsetAndLimit_matchesFullSort() {
+            var manyDatasets = new Dataset[50];
+            for (int i = 0; i < manyDatasets.length; i++) {
+                // Scrambled titles so the flattening order differs from the sort order
+                manyDatasets[i] = dataset("ds-" + i, Map.of("dcterms:title", "title-%02d".formatted((i * 37) % 50)));
+            }
+            var large = catalog("cat-large", "provider-large", manyDatasets);
+            var fullSpec = QuerySpec.Builder.newInstance()
+                    .sortField("properties.dcterms:title")
+                    .sortOrder(SortOrder.DESC)
+                    .limit(1000)
+                    .build();
+            var pageSpec = QuerySpec.Builder.newInstance()
+                    .sortField("properties.dcterms:title")
+                    .sortOrder(SortOrder.DESC)
+                    .offset(10)
+                    .limit(5)
+                    .build();
+
+            var allIds = resolver.query(Stream.of(large), fullSpec)
+                    .flatMap(c -> c.getDatasets().stream())
+                    .map(Dataset::getId)
+                    .toList();
+            var pageIds = resolver.query(Stream.of(large), pageSpec)
+                    .flatMap(c -> c.getDatasets().stream())
+                    .map(Dataset::getId)
+                    .toList();
+
+            assertThat(pageIds).containsExactlyElementsOf(allIds.subList(10, 15));
+        }
+
+        @Test
+        @DisplayName("sort with limit on equal values keeps datasets in catalog order")
+        void query_sortWithLimit_equalValues_keepsCatalogOrder() {
+            var same = Map.<String, Object>of("dcterms:title", "Same Title");
+            var catalogX = catalog("cat-x", "provider-x",
+                    dataset("ds-x1", same), dataset("ds-x2", same), dataset("ds-x3", same));
+            var catalogY = catalog("cat-y", "provider-y", dataset("ds-y1", same));
+            var spec = QuerySpec.Builder.newInstance()
+                    .sortField("properties.dcterms:title")
+                    .sortOrder(SortOrder.ASC)
+                    .limit(3)
+                    .build();
+
+            var datasetIds = resolver.query(Stream.of(catalogX, catalogY), spec)
+                    .flatMap(c -> c.getDatasets().stream())
+                    .map(Dataset::getId)
+                    .toList();
+
+            assertThat(datasetIds).containsExactly("ds-x1", "ds-x2", "ds-x3");
+        }
+
     }
 
     // ── Pagination (dataset-level) ───────────────────────────────────────────
@@ -418,6 +474,49 @@ class DatasetAwareQueryResolverTest {
         }
     }
 
+    // ── Parallel evaluation ──────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Parallel evaluation")
+    class ParallelEvaluation {
+
+        @Test
+        @DisplayName("parallel evaluation above the threshold returns the same page as the sequential one")
+        void query_aboveThreshold_matchesSequential() {
+            var registry = CriterionOperatorRegistryImpl.ofDefaults();
+            registry.registerPropertyLookup(new DsePropertyLookup());
+            var pool = new ForkJoinPool(4);
+            try {
+                var parallelResolver = new DatasetAwareQueryResolver(registry, pool, 1);
+                var catalogs = new ArrayList<Catalog>();
+                for (int c = 0; c < 20; c++) {
+                    var datasets = new Dataset[10];
+                    for (int d = 0; d < datasets.length; d++) {
+                        var title = "title-%03d".formatted((c * 10 + d) * 37 % 200);
+                        datasets[d] = dataset("ds-%d-%d".formatted(c, d), Map.of("dcterms:title", title, "dcterms:subject", d % 2 == 0 ? "even" : "odd"));
+                    }
+                    catalogs.add(catalog("cat-" + c, "provider-" + c, datasets));
+                }
+                catalogs.add(catalog("cat-empty", "provider-empty"));
+                var spec = QuerySpec.Builder.newInstance()
+                        .filter(criterion("properties.dcterms:subject", "=", "even"))
+                        .sortField("properties.dcterms:title")
+                        .offset(7)
+                        .limit(20)
+                        .build();
+
+                var sequential = resolver.query(catalogs.stream(), spec).toList();
+                var parallel = parallelResolver.query(catalogs.stream(), spec).toList();
+
+                assertThat(parallel).extracting(Catalog::getId).containsExactlyElementsOf(sequential.stream().map(Catalog::getId).toList());
+                assertThat(parallel.stream().flatMap(c -> c.getDatasets().stream()).map(Dataset::getId))
+                        .containsExactlyElementsOf(sequential.stream().flatMap(c -> c.getDatasets().stream()).map(Dataset::getId).toList());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
     // ── helpers ──────────────────────────────────────────────────────────────
 
     private static Catalog catalog(String id, String participantId, Dataset... datasets) {
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.dse.common.lib.DsePropertyLookup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatasetIndexTest {
+
+    private final DatasetIndex index = new DatasetIndex(List.of("id", "properties.keywords"), new DsePropertyLookup());
+
+    @Test
+    @DisplayName("list values are indexed element by element")
+    void add_listValue_indexesEveryElement() {
+        index.add("cat-1", catalog("cat-1",
+                dataset("ds-1", List.of("flight", "airport")),
+                dataset("ds-2", List.of("train"))));
+
+        assertThat(index.lookup("properties.keywords", List.of("airport"))).containsExactly(Map.entry("cat-1", bits(0)));
+        assertThat(index.lookup("properties.keywords", List.of("flight", "train"))).containsExactly(Map.entry("cat-1", bits(0, 1)));
+        assertThat(index.lookup("id", List.of("ds-2"))).containsExactly(Map.entry("cat-1", bits(1)));
+    }
+
+    @Test
+    @DisplayName("removing a catalog removes all its postings")
+    void remove_catalog_removesPostings() {
+        index.add("cat-1", catalog("cat-1", dataset("ds-1", List.of("flight"))));
+        index.add("cat-2", catalog("cat-2", dataset("ds-2", List.of("flight"))));
+
+        index.remove("cat-1");
+
+        assertThat(index.lookup("properties.keywords", List.of("flight"))).containsOnlyKeys("cat-2");
+        assertThat(index.lookup("id", List.of("ds-1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("updating a copy leaves the original index unchanged")
+    void copy_updated_originalUnchanged() {
+        index.add("cat-1", catalog("cat-1", dataset("ds-1", List.of("flight"))));
+
+        var copy = index.copy();
+        copy.add("cat-2", catalog("cat-2", dataset("ds-2", List.of("flight"))));
+        copy.remove("cat-1");
+
+        assertThat(index.lookup("properties.keywords", List.of("flight"))).containsOnlyKeys("cat-1");
+        assertThat(copy.lookup("properties.keywords", List.of("flight"))).containsOnlyKeys("cat-2");
+    }
+
+    @Test
+    @DisplayName("re-adding a catalog with dataset hashes only extracts the values of new datasets")
+    void add_withDatasetHashes_extractsChangedDatasetsOnly() {
+        var lookups = new AtomicInteger();
+        var delegate = new DsePropertyLookup();
+        var countingIndex = new DatasetIndex(List.of("id"), (path, object) -> {
+            lookups.incrementAndGet();
+            return delegate.getProperty(path, object);
+        });
+        var original = catalog("cat-1", dataset("ds-1", List.of("flight")), dataset("ds-2", List.of("train")));
+        countingIndex.add("cat-1", original, CatalogFingerprint.of(original).datasets());
+        lookups.set(0);
+
+        var updated = catalog("cat-1", dataset("ds-3", List.of("bus")), dataset("ds-1", List.of("flight")));
+        countingIndex.add("cat-1", updated, CatalogFingerprint.of(updated).datasets());
+
+        assertThat(lookups).hasValue(1);
+        assertThat(countingIndex.lookup("id", List.of("ds-1"))).containsExactly(Map.entry("cat-1", bits(1)));
+        assertThat(countingIndex.lookup("id", List.of("ds-3"))).containsExactly(Map.entry("cat-1", bits(0)));
+        assertThat(countingIndex.lookup("id", List.of("ds-2"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lookup on a path that is not indexed is rejected")
+    void lookup_unindexedPath_throws() {
+        assertThat(index.isIndexed("properties.title")).isFalse();
+        assertThatThrownBy(() -> index.lookup("properties.title", List.of("x"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("configured paths are trimmed, deduplicated and stripped of the datasets prefix")
+    void parsePaths_normalizesPaths() {
+        assertThat(DatasetIndex.parsePaths(" id, datasets.properties.title ,,id")).containsExactly("id", "properties.title");
+        assertThat(DatasetIndex.parsePaths(null)).isEmpty();
+    }
+
+    private static Catalog catalog(String id, Dataset... datasets) {
+        return Catalog.Builder.newInstance().id(id).participantId("provider").datasets(List.of(datasets)).build();
+    }
+
+    private static Dataset dataset(String id, List<String> keywords) {
+        return Dataset.Builder.newInstance().id(id).property("keywords", keywords).build();
+    }
+
+    private static BitSet bits(int... positions) {
+        var bits = new BitSet();
+        for (var position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+}
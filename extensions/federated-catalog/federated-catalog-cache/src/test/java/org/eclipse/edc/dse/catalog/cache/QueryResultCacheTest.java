@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2024 Amadeus IT Group
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus IT Group - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dse.catalog.cache;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryResultCacheTest {
+
+    private final QueryResultCache cache = new QueryResultCache(2);
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    @Test
+    @DisplayName("specs differing only in filter order and sort field prefix share a result")
+    void get_normalizedSpecs_shareResult() {
+        var first = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("id", "=", "ds-1"), new Criterion("properties.title", "=", "x")))
+                .sortField("datasets.properties.title")
+                .build();
+        var second = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("properties.title", "=", "x"), new Criterion("id", "=", "ds-1")))
+                .sortField("properties.title")
+                .build();
+
+        var result = cache.get(first, this::resolve);
+
+        assertThat(cache.get(second, this::resolve)).isSameAs(result);
+        assertThat(resolutions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("specs with a different page or sort order are resolved separately")
+    void get_differentPageOrSortOrder_resolvesAgain() {
+        cache.get(QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.ASC).limit(10).build(), this::resolve);
+        cache.get(QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.ASC).offset(10).limit(10).build(), this::resolve);
+        cache.get(QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.DESC).limit(10).build(), this::resolve);
+
+        assertThat(resolutions).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("least recently used result is evicted beyond the maximum size")
+    void get_beyondMaxEntries_evictsLeastRecentlyUsed() {
+        var a = QuerySpec.Builder.newInstance().limit(1).build();
+        var b = QuerySpec.Builder.newInstance().limit(2).build();
+        var c = QuerySpec.Builder.newInstance().limit(3).build();
+
+        cache.get(a, this::resolve);
+        cache.get(b, this::resolve);
+        cache.get(a, this::resolve);
+        cache.get(c, this::resolve);
+        cache.get(a, this::resolve);
+        cache.get(b, this::resolve);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(resolutions).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("failed resolution is not cached")
+    void get_resolutionFails_notCached() {
+        var spec = QuerySpec.none();
+
+        assertThatThrownBy(() -> cache.get(spec, () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+        cache.get(spec, this::resolve);
+
+        assertThat(resolutions).hasValue(1);
+    }
+
+    private List<Catalog> resolve() {
+        resolutions.incrementAndGet();
+        return List.of(Catalog.Builder.newInstance().id("cat-1").build());
+    }
+}
@@ -27,7 +27,9 @@ import org.eclipse.edc.transform.transformer.edc.from.JsonObjectFromQuerySpecTra
 import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToCriterionTransformer;
 import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToQuerySpecTransformer;
 import org.eclipse.edc.util.AuthorityCatalogFilterDidResolver;
+import org.eclipse.edc.util.ContentHasher;
 import org.eclipse.edc.util.FederatedCatalogService;
+import org.eclipse.edc.util.PolicyDecisionCache;
 import org.eclipse.edc.web.jersey.providers.jsonld.JerseyJsonLdInterceptor;
 import org.eclipse.edc.web.jersey.providers.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.spi.WebService;
@@ -35,7 +37,10 @@ import org.eclipse.edc.web.spi.configuration.PortMapping;
 import org.eclipse.edc.web.spi.configuration.PortMappingRegistry;
 
 import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
 import org.eclipse.edc.jsonld.spi.Namespaces;
@@ -47,6 +52,9 @@ import org.eclipse.edc.spi.constants.CoreConstants;
 public class VcCatalogFilterExtension implements ServiceExtension {
 
     public static final String NAME = "Federated Catalog Filter API";
+    public static final int DEFAULT_POLICY_DECISION_CACHE_SIZE = 10_000;
+    public static final long DEFAULT_POLICY_DECISION_TTL_SECONDS = 300;
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1000;
 
     @Inject
     private Monitor monitor;
@@ -75,12 +83,33 @@ public class VcCatalogFilterExtension implements ServiceExtension {
     @Inject
     private JsonLd jsonLd;
 
+    @Inject
+    private Clock clock;
+
     @Configuration
     private CatalogFilterApiConfiguration apiConfiguration;
 
     @Setting(description = "Authority did", key = "dse.authority.did", required = true)
     public String authorityDid;
 
+    @Setting(description = "Maximum number of catalog discovery policy decisions cached per participant credentials, 0 to disable",
+            defaultValue = DEFAULT_POLICY_DECISION_CACHE_SIZE + "", key = "dse.catalog.filter.policy.cache.max", required = false)
+    public int policyDecisionCacheSize;
+
+    @Setting(description = "Seconds a cached catalog discovery policy decision is reused, at most until the participant credentials expire",
+            defaultValue = DEFAULT_POLICY_DECISION_TTL_SECONDS + "", key = "dse.catalog.filter.policy.cache.ttl.seconds", required = false)
+    public long policyDecisionTtlSeconds;
+
+    @Setting(description = "Number of threads evaluating the dataset policies of large catalog responses concurrently, 1 to evaluate them on the request thread",
+            defaultValue = "1", key = "dse.catalog.filter.parallelism", required = false)
+    public int filterParallelism;
+
+    @Setting(description = "Minimum number of datasets in a catalog response from which their policies are evaluated concurrently",
+            defaultValue = DEFAULT_PARALLEL_THRESHOLD + "", key = "dse.catalog.filter.parallel.threshold", required = false)
+    public int filterParallelThreshold;
+
+    private ForkJoinPool filterPool;
+
     static final String CATALOG_FILTER_SCOPE = "CATALOG_FILTER_API";
 
     static final String CATALOG_QUERY = "catalog";
@@ -93,8 +122,16 @@ public class VcCatalogFilterExtension implements ServiceExtension {
         registerTransformers();
         portMappingRegistry.register(new PortMapping(CATALOG_QUERY, apiConfiguration.port(), apiConfiguration.path()));
         AuthorityCatalogFilterDidResolver didresolver = new AuthorityCatalogFilterDidResolver(didResolverRegistry, authorityDid);
-        FederatedCatalogService catalogService = new FederatedCatalogService(policyEngine, monitor, didresolver, transformerRegistry, jsonLd, httpClient);
-        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry);
+        ContentHasher hasher = new ContentHasher(typeManager.getMapper());
+        PolicyDecisionCache decisionCache = policyDecisionCacheSize > 0 && policyDecisionTtlSeconds > 0
+                ? new PolicyDecisionCache(hasher, clock, Duration.ofSeconds(policyDecisionTtlSeconds), policyDecisionCacheSize)
+                : null;
+        if (filterParallelism > 1) {
+            filterPool = new ForkJoinPool(filterParallelism);
+        }
+        FederatedCatalogService catalogService = new FederatedCatalogService(policyEngine, monitor, didresolver, transformerRegistry, jsonLd, httpClient, hasher, decisionCache,
+                filterPool, Math.max(0, filterParallelThreshold));
+        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry, jsonLd, CATALOG_FILTER_SCOPE);
         webService.registerResource(CATALOG_QUERY, controller);
         webService.registerResource(
                 CATALOG_QUERY,
@@ -107,6 +144,13 @@ public class VcCatalogFilterExtension implements ServiceExtension {
         monitor.info("Registered Federated Catalog Filter");
     }
 
+    @Override
+    public void shutdown() {
+        if (filterPool != null) {
+            filterPool.shutdown();
+        }
+    }
+
     private void registerNameSpaces() {
         jsonLd.registerNamespace(JsonLdKeywords.VOCAB, CoreConstants.EDC_NAMESPACE, CATALOG_FILTER_SCOPE);
         jsonLd.registerNamespace(CoreConstants.EDC_PREFIX, CoreConstants.EDC_NAMESPACE, CATALOG_FILTER_SCOPE);
@@ -1,5 +1,6 @@
 package org.eclipse.edc.api;
 
+import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
@@ -7,14 +8,14 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.FilterRequest;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
-import org.eclipse.edc.spi.result.AbstractResult;
-import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.util.FederatedCatalogService;
@@ -23,8 +24,6 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
 import java.util.Collection;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
-
 @Path("/filter")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
@@ -34,14 +33,19 @@ public class VcCatalogFilterController implements FederatedCatalogFilterApiV2 {
 
     private final IdentityService identityService;
     private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final String jsonLdScope;
     private final Monitor monitor;
     private final String participantContextId;
 
-    public VcCatalogFilterController(ServiceExtensionContext context, Monitor monitor, FederatedCatalogService catalogService, IdentityService identityService, TypeTransformerRegistry transformerRegistry) {
+    public VcCatalogFilterController(ServiceExtensionContext context, Monitor monitor, FederatedCatalogService catalogService, IdentityService identityService,
+                                     TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String jsonLdScope) {
         this.monitor = monitor;
         this.federatedCatalogService = catalogService;
         this.identityService = identityService;
         this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.jsonLdScope = jsonLdScope;
         this.participantContextId = context.getSetting("edc.participant.id", "default-participant");
     }
 
@@ -61,11 +65,7 @@ public class VcCatalogFilterController implements FederatedCatalogFilterApiV2 {
 
             filtered = federatedCatalogService.fetchAndFilterCatalog(credentials, req.participantDid(), req.query());
             if (!filtered.isEmpty()) {
-                return Response.ok(filtered.stream()
-                        .map(c -> transformerRegistry.transform(c, JsonObject.class))
-                        .filter(Result::succeeded)
-                        .map(AbstractResult::getContent)
-                        .collect(toJsonArray())).build();
+                return Response.ok(streamCatalogs(filtered)).build();
             } else {
                 return Response.ok(filtered).build();
             }
@@ -77,6 +77,34 @@ public class VcCatalogFilterController implements FederatedCatalogFilterApiV2 {
         }
     }
 
+    /**
+     * Writes the catalogs as a JSON array, transforming and flushing them one at a time, so that the response is sent
+     * with chunked transfer encoding as soon as the first catalog is ready and only one catalog is held as JSON at once.
+     * The streamed body bypasses the JSON-LD interceptor, so each catalog is compacted here, in the scope of the interceptor.
+     * Catalogs that fail to transform or to compact are skipped.
+     */
+    private StreamingOutput streamCatalogs(Collection<Catalog> catalogs) {
+        return output -> {
+            try (var generator = Json.createGenerator(output)) {
+                generator.writeStartArray();
+                for (var catalog : catalogs) {
+                    var result = transformerRegistry.transform(catalog, JsonObject.class)
+                            .compose(json -> jsonLd.compact(json, jsonLdScope));
+                    if (result.succeeded()) {
+                        generator.write(result.getContent());
+                        generator.flush();
+                    } else {
+                        monitor.warning("Skipping catalog %s in catalog filter response: %s".formatted(catalog.getId(), result.getFailureDetail()));
+                    }
+                }
+                generator.writeEnd();
+            } catch (RuntimeException e) {
+                // The status line is already sent, the client sees a truncated body
+                monitor.severe("Error streaming catalog filter response", e);
+                throw e;
+            }
+        };
+    }
 }
 
 
@@ -0,0 +1,51 @@
+package org.eclipse.edc.util;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.policy.model.Policy;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashes the JSON serialization of policies and credentials, so that instances with the same content, e.g. the
+ * same offer policy transformed again from every dataset of a catalog response, have the same hash.
+ *
+ * <p>The target of policies is not part of their hash: every offer carries the asset of its dataset as target, while
+ * the evaluation of a catalog discovery policy does not depend on it.
+ */
+public class ContentHasher {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final ObjectWriter writer;
+
+    public ContentHasher(ObjectMapper mapper) {
+        // Sorted map entries, so that equal content always has the same hash
+        this.writer = mapper.copy().addMixIn(Policy.class, PolicyWithoutTarget.class)
+                .writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * Returns the SHA-256 hash of the serialized {@code value}, or null when it is null or cannot be serialized.
+     */
+    public String hash(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            var digest = MessageDigest.getInstance(ALGORITHM).digest(writer.writeValueAsBytes(value));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    @JsonIgnoreProperties("target")
+    private abstract static class PolicyWithoutTarget {
+    }
+}
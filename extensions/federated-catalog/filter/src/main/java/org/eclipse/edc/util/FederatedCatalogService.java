@@ -27,9 +27,15 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.eclipse.edc.FilterConstants.VC_CLAIMS;
 
@@ -42,14 +48,42 @@ public class FederatedCatalogService {
     private final AuthorityCatalogFilterDidResolver didResolver;
     private final TypeTransformerRegistry transformerRegistry;
     private final JsonLd jsonLd;
+    private final ContentHasher hasher;
+    private final PolicyDecisionCache decisionCache;
+    private final ForkJoinPool parallelPool;
+    private final int parallelThreshold;
 
     public FederatedCatalogService(PolicyEngine policyEngine, Monitor monitor, AuthorityCatalogFilterDidResolver didResolver, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, HttpClient httpClient) {
+        this(policyEngine, monitor, didResolver, transformerRegistry, jsonLd, httpClient, null, null);
+    }
+
+    /**
+     * Creates a service evaluating the offer policies with the same {@code hasher} content hash once per request, and
+     * reusing their decisions across requests through {@code decisionCache}. Without a hasher, only the same policy
+     * instances share a decision within a request. Without a decision cache, every request evaluates its policies.
+     */
+    public FederatedCatalogService(PolicyEngine policyEngine, Monitor monitor, AuthorityCatalogFilterDidResolver didResolver, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, HttpClient httpClient,
+                                   ContentHasher hasher, PolicyDecisionCache decisionCache) {
+        this(policyEngine, monitor, didResolver, transformerRegistry, jsonLd, httpClient, hasher, decisionCache, null, 0);
+    }
+
+    /**
+     * Same as {@link #FederatedCatalogService(PolicyEngine, Monitor, AuthorityCatalogFilterDidResolver, TypeTransformerRegistry, JsonLd, HttpClient, ContentHasher, PolicyDecisionCache)},
+     * evaluating the dataset policies of responses holding at least {@code parallelThreshold} datasets concurrently in
+     * {@code parallelPool}, or always sequentially when it is null.
+     */
+    public FederatedCatalogService(PolicyEngine policyEngine, Monitor monitor, AuthorityCatalogFilterDidResolver didResolver, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, HttpClient httpClient,
+                                   ContentHasher hasher, PolicyDecisionCache decisionCache, ForkJoinPool parallelPool, int parallelThreshold) {
         this.policyEngine = policyEngine;
         this.httpClient = httpClient;
         this.monitor = monitor;
         this.didResolver = didResolver;
         this.transformerRegistry = transformerRegistry;
         this.jsonLd = jsonLd;
+        this.hasher = hasher;
+        this.decisionCache = decisionCache;
+        this.parallelPool = parallelPool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     public Collection<Catalog> fetchAndFilterCatalog(ClaimToken participantVcs, String participantDid, QuerySpec query) throws Exception {
@@ -64,21 +98,20 @@ public class FederatedCatalogService {
 
     protected Collection<Catalog> filterCatalog(Collection<Catalog> catalogs, CatalogDiscoveryPolicyContext policyContext, String participantDid) {
         Collection<Catalog> filteredCatalogs = new ArrayList<>();
+        PolicyVerdicts verdicts = new PolicyVerdicts(policyContext);
+        Predicate<Dataset> visible = visibility(catalogs, participantDid, verdicts);
         for (Catalog catalog : catalogs) {
             if (catalog == null) {
                 monitor.warning("Encountered null catalog entry, skipping");
                 continue;
             }
-            if (catalog.getProperties().values().stream()
-                    .filter(String.class::isInstance)
-                    .map(String.class::cast)
-                    .anyMatch(v -> v.contains(participantDid))) {
+            if (isOwnCatalog(catalog, participantDid)) {
                 filteredCatalogs.add(catalog);
                 continue;
             }
             
             List<Dataset> filteredDatasets = catalog.getDatasets().stream()
-                    .filter(dataset -> evaluateDatasetPolicy(dataset, policyContext))
+                    .filter(visible)
                     .collect(Collectors.toList());
 
             Catalog filteredCatalog = Catalog.Builder.newInstance()
@@ -94,7 +127,49 @@ public class FederatedCatalogService {
         return filteredCatalogs;
     }
 
-    private boolean evaluateDatasetPolicy(Dataset dataset, CatalogDiscoveryPolicyContext policyContext) {
+    private static boolean isOwnCatalog(Catalog catalog, String participantDid) {
+        return catalog.getProperties().values().stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .anyMatch(v -> v.contains(participantDid));
+    }
+
+    /**
+     * Returns whether each dataset of {@code catalogs} is visible to the participant. Large responses are evaluated
+     * upfront in the parallel pool, the others lazily on the calling thread.
+     */
+    private Predicate<Dataset> visibility(Collection<Catalog> catalogs, String participantDid, PolicyVerdicts verdicts) {
+        if (parallelPool == null) {
+            return dataset -> evaluateDatasetPolicy(dataset, verdicts);
+        }
+        List<Dataset> datasets = catalogs.stream()
+                .filter(catalog -> catalog != null && !isOwnCatalog(catalog, participantDid))
+                .flatMap(catalog -> catalog.getDatasets().stream())
+                .toList();
+        if (datasets.size() < parallelThreshold) {
+            return dataset -> evaluateDatasetPolicy(dataset, verdicts);
+        }
+
+        verdicts.concurrent = true;
+        boolean[] permitted = new boolean[datasets.size()];
+        try {
+            // Each task writes its own slot, the results are visible once the submitted task completed
+            parallelPool.submit(() -> IntStream.range(0, datasets.size()).parallel()
+                    .forEach(i -> permitted[i] = evaluateDatasetPolicy(datasets.get(i), verdicts))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while evaluating dataset policies", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to evaluate dataset policies", e.getCause());
+        }
+        Map<Dataset, Boolean> visibleByDataset = new IdentityHashMap<>(datasets.size());
+        for (int i = 0; i < permitted.length; i++) {
+            visibleByDataset.put(datasets.get(i), permitted[i]);
+        }
+        return visibleByDataset::get;
+    }
+
+    private boolean evaluateDatasetPolicy(Dataset dataset, PolicyVerdicts verdicts) {
         List<Policy> policies = dataset.getOffers().values().stream().toList();
 
         if (policies.isEmpty()) {
@@ -103,8 +178,7 @@ public class FederatedCatalogService {
         }
 
         for (Policy policy : policies) {
-            Result<Void> evaluationResult = policyEngine.evaluate(policy, policyContext);
-            if (!evaluationResult.succeeded()) {
+            if (!verdicts.isPermitted(policy)) {
                 monitor.debug(String.format("Dataset %s failed policy evaluation", dataset.getId()));
                 return false;
             }
@@ -114,6 +188,46 @@ public class FederatedCatalogService {
         return true;
     }
 
+    private boolean evaluatePolicy(Policy policy, CatalogDiscoveryPolicyContext policyContext) {
+        Result<Void> evaluationResult = policyEngine.evaluate(policy, policyContext);
+        return evaluationResult.succeeded();
+    }
+
+    /**
+     * The verdicts of the offer policies of one request. Across a federation, many datasets share a few distinct
+     * policies, so each distinct policy is evaluated once and its verdict applies to every dataset offering it.
+     *
+     * <p>The policy context collects the problems reported during evaluation and is not thread-safe, so concurrent
+     * evaluations each get their own context for the same participant agent.
+     */
+    private class PolicyVerdicts {
+
+        private final CatalogDiscoveryPolicyContext policyContext;
+        private final PolicyDecisionCache.Requester requester;
+        private final Map<Object, Boolean> verdicts = new ConcurrentHashMap<>();
+        private boolean concurrent;
+
+        PolicyVerdicts(CatalogDiscoveryPolicyContext policyContext) {
+            this.policyContext = policyContext;
+            this.requester = decisionCache != null ? decisionCache.requester(policyContext.participantAgent()) : null;
+        }
+
+        boolean isPermitted(Policy policy) {
+            String hash = hasher != null ? hasher.hash(policy) : null;
+            // Policy does not override equals, so policies without a content hash only share a verdict with themselves
+            Object key = hash != null ? hash : policy;
+            // Concurrent requests for the same policy wait for its single evaluation
+            return verdicts.computeIfAbsent(key, k -> requester != null
+                    ? decisionCache.isPermitted(hash, requester, () -> evaluate(policy))
+                    : evaluate(policy));
+        }
+
+        private boolean evaluate(Policy policy) {
+            CatalogDiscoveryPolicyContext context = concurrent ? new CatalogDiscoveryPolicyContext(policyContext.participantAgent()) : policyContext;
+            return evaluatePolicy(policy, context);
+        }
+    }
+
     /**
      * Builds the policy evaluation context for the requesting participant.
      * <p>
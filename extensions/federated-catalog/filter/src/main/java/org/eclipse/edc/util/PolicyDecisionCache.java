@@ -0,0 +1,105 @@
+package org.eclipse.edc.util;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.eclipse.edc.FilterConstants.VC_CLAIMS;
+
+/**
+ * Bounded cache of catalog discovery policy decisions, so that a participant browsing the catalog again with the
+ * same credentials does not evaluate the same offer policies again.
+ *
+ * <p>Decisions are keyed by the content hash of the policy, the DID of the participant and the content hash of its
+ * verifiable credentials: a policy received again in a new catalog response hits the cache, and any change in the
+ * credentials misses it. The policy hash leaves out the target, so the offers of the same policy for different datasets
+ * share a single entry, and the cache holds one entry per distinct policy and requester. A decision is kept for at most {@code ttl}, and never beyond the earliest expiration date of
+ * the credentials it was taken on. The least recently used decisions are evicted once {@code maxSize} is reached.
+ *
+ * <p>Policies or credentials that cannot be serialized are never cached, their decisions are always evaluated.
+ */
+public class PolicyDecisionCache {
+
+    private final ContentHasher hasher;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Map<Key, Decision> decisions;
+
+    public PolicyDecisionCache(ContentHasher hasher, Clock clock, Duration ttl, int maxSize) {
+        this.hasher = hasher;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.decisions = new LinkedHashMap<Key, Decision>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Decision> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the requester the decisions taken for {@code agent} are cached for. Computed once per request, as the
+     * credentials are hashed.
+     */
+    public Requester requester(ParticipantAgent agent) {
+        var credentials = agent.getClaims().get(VC_CLAIMS);
+        var fingerprint = hasher.hash(credentials);
+        var expiresAt = clock.instant().plus(ttl);
+        if (credentials instanceof List<?> list) {
+            for (var credential : list) {
+                if (credential instanceof VerifiableCredential vc && vc.getExpirationDate() != null && vc.getExpirationDate().isBefore(expiresAt)) {
+                    expiresAt = vc.getExpirationDate();
+                }
+            }
+        }
+        return new Requester(agent.getIdentity(), fingerprint, expiresAt);
+    }
+
+    /**
+     * Returns the cached decision of the policy hashed to {@code policyHash} by the {@link ContentHasher}, which leaves
+     * out its target, for {@code requester}, or takes it with {@code evaluation} and caches it.
+     */
+    public boolean isPermitted(String policyHash, Requester requester, BooleanSupplier evaluation) {
+        var now = clock.instant();
+        if (policyHash == null || requester.credentials() == null || !now.isBefore(requester.expiresAt())) {
+            return evaluation.getAsBoolean();
+        }
+
+        var key = new Key(policyHash, requester.did(), requester.credentials());
+        synchronized (decisions) {
+            var decision = decisions.get(key);
+            if (decision != null && now.isBefore(decision.expiresAt())) {
+                return decision.permitted();
+            }
+        }
+        // Evaluated outside of the lock, concurrent requests for the same decision may both evaluate it
+        var permitted = evaluation.getAsBoolean();
+        synchronized (decisions) {
+            decisions.put(key, new Decision(permitted, requester.expiresAt()));
+        }
+        return permitted;
+    }
+
+    /**
+     * The participant decisions are taken for.
+     *
+     * @param did         the DID of the participant
+     * @param credentials the content hash of its verifiable credentials, or null when they cannot be hashed
+     * @param expiresAt   the instant from which the decisions taken on these credentials are not valid anymore
+     */
+    public record Requester(String did, String credentials, Instant expiresAt) {
+    }
+
+    private record Key(String policy, String did, String credentials) {
+    }
+
+    private record Decision(boolean permitted, Instant expiresAt) {
+    }
+}
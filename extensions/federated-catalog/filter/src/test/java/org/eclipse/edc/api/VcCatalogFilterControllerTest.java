@@ -1,6 +1,13 @@
 package org.eclipse.edc.api;
 
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.FilterRequest;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.Namespaces;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
@@ -13,6 +20,8 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.util.FederatedCatalogService;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,11 +34,13 @@ import static org.mockito.Mockito.when;
 
 class VcCatalogFilterControllerTest {
 
+    private static final String SCOPE = "CATALOG_FILTER_API";
     private final ServiceExtensionContext context = mock();
     private final Monitor monitor = mock();
     private final FederatedCatalogService catalogService = mock();
     private final IdentityService identityService = mock();
     private final TypeTransformerRegistry transformerRegistry = mock();
+    private final JsonLd jsonLd = new TitaniumJsonLd(monitor);
 
     @Test
     void filter_shouldUseConfiguredParticipantContextId() throws Exception {
@@ -42,7 +53,7 @@ class VcCatalogFilterControllerTest {
         when(catalogService.fetchAndFilterCatalog(claimToken, "did:web:participant", QuerySpec.none()))
                 .thenReturn(List.of());
 
-        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry);
+        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry, jsonLd, SCOPE);
 
         var response = controller.filter(request);
 
@@ -51,6 +62,71 @@ class VcCatalogFilterControllerTest {
         verify(identityService).verifyJwtToken(eq("participant-1"), eq(token), any(VerificationContext.class));
     }
 
+    @Test
+    void filter_shouldStreamTransformedCatalogsAsJsonArray() throws Exception {
+        var token = TokenRepresentation.Builder.newInstance().token("jwt").build();
+        var claimToken = ClaimToken.Builder.newInstance().build();
+        var request = new FilterRequest(token, "did:web:participant", QuerySpec.none());
+        var first = Catalog.Builder.newInstance().id("cat-1").build();
+        var failing = Catalog.Builder.newInstance().id("cat-2").build();
+        var third = Catalog.Builder.newInstance().id("cat-3").build();
+        when(context.getSetting("edc.participant.id", "default-participant")).thenReturn("participant-1");
+        when(identityService.verifyJwtToken(eq("participant-1"), eq(token), any(VerificationContext.class)))
+                .thenReturn(Result.success(claimToken));
+        when(catalogService.fetchAndFilterCatalog(claimToken, "did:web:participant", QuerySpec.none()))
+                .thenReturn(List.of(first, failing, third));
+        when(transformerRegistry.transform(first, JsonObject.class))
+                .thenReturn(Result.success(Json.createObjectBuilder().add("@id", "cat-1").build()));
+        when(transformerRegistry.transform(failing, JsonObject.class)).thenReturn(Result.failure("cannot transform"));
+        when(transformerRegistry.transform(third, JsonObject.class))
+                .thenReturn(Result.success(Json.createObjectBuilder().add("@id", "cat-3").build()));
+
+        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry, jsonLd, SCOPE);
+
+        var response = controller.filter(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntity()).isInstanceOf(StreamingOutput.class);
+        verifyNoInteractions(transformerRegistry);
+        var body = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(body);
+        var array = Json.createReader(new ByteArrayInputStream(body.toByteArray())).readArray();
+        assertThat(array).hasSize(2);
+        assertThat(array.getJsonObject(0).getString("@id")).isEqualTo("cat-1");
+        assertThat(array.getJsonObject(1).getString("@id")).isEqualTo("cat-3");
+    }
+
+    @Test
+    void filter_shouldCompactStreamedCatalogs() throws Exception {
+        var token = TokenRepresentation.Builder.newInstance().token("jwt").build();
+        var claimToken = ClaimToken.Builder.newInstance().build();
+        var request = new FilterRequest(token, "did:web:participant", QuerySpec.none());
+        var catalog = Catalog.Builder.newInstance().id("cat-1").build();
+        jsonLd.registerNamespace(Namespaces.DCAT_PREFIX, Namespaces.DCAT_SCHEMA, SCOPE);
+        when(context.getSetting("edc.participant.id", "default-participant")).thenReturn("participant-1");
+        when(identityService.verifyJwtToken(eq("participant-1"), eq(token), any(VerificationContext.class)))
+                .thenReturn(Result.success(claimToken));
+        when(catalogService.fetchAndFilterCatalog(claimToken, "did:web:participant", QuerySpec.none()))
+                .thenReturn(List.of(catalog));
+        when(transformerRegistry.transform(catalog, JsonObject.class)).thenReturn(Result.success(Json.createObjectBuilder()
+                .add("@id", "cat-1")
+                .add(Namespaces.DCAT_SCHEMA + "dataset", Json.createArrayBuilder().add(Json.createObjectBuilder().add("@id", "dataset-1")))
+                .build()));
+
+        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry, jsonLd, SCOPE);
+
+        var response = controller.filter(request);
+
+        var body = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(body);
+        var array = Json.createReader(new ByteArrayInputStream(body.toByteArray())).readArray();
+        assertThat(array).singleElement().satisfies(json -> {
+            var compacted = json.asJsonObject();
+            assertThat(compacted).containsKey("dcat:dataset").doesNotContainKey(Namespaces.DCAT_SCHEMA + "dataset");
+            assertThat(compacted.getJsonObject("@context").getString(Namespaces.DCAT_PREFIX)).isEqualTo(Namespaces.DCAT_SCHEMA);
+        });
+    }
+
     @Test
     void filter_whenValidationFails_shouldReturnForbidden() {
         var token = TokenRepresentation.Builder.newInstance().token("jwt").build();
@@ -59,7 +135,7 @@ class VcCatalogFilterControllerTest {
         when(identityService.verifyJwtToken(eq("participant-1"), eq(token), any(VerificationContext.class)))
                 .thenReturn(Result.failure("invalid token"));
 
-        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry);
+        var controller = new VcCatalogFilterController(context, monitor, catalogService, identityService, transformerRegistry, jsonLd, SCOPE);
 
         var response = controller.filter(request);
 
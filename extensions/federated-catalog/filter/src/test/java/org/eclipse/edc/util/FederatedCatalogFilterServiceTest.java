@@ -11,6 +11,7 @@ import org.eclipse.edc.catalog.transform.JsonObjectToDataServiceTransformer;
 import org.eclipse.edc.catalog.transform.JsonObjectToDatasetTransformer;
 import org.eclipse.edc.catalog.transform.JsonObjectToDistributionTransformer;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToActionTransformer;
 import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToConstraintTransformer;
 import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToOperatorTransformer;
@@ -22,6 +23,7 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
 import org.eclipse.edc.participant.spi.ParticipantIdMapper;
 import org.eclipse.edc.policy.engine.PolicyEngineImpl;
 import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
@@ -29,7 +31,9 @@ import org.eclipse.edc.policy.engine.ScopeFilter;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
 import org.eclipse.edc.policy.engine.validation.RuleValidator;
+import org.eclipse.edc.policy.model.Action;
 import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -53,6 +57,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.eclipse.dse.iam.policy.CatalogDiscoveryPolicyContext.CATALOG_DISCOVERY_SCOPE;
 import static org.eclipse.dse.iam.policy.PolicyConstants.DOMAIN_CREDENTIAL_TYPE;
@@ -62,10 +67,13 @@ import static org.eclipse.edc.connector.controlplane.contract.spi.policy.Transfe
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.eclipse.edc.util.IdentityServiceValidator.READ_ALL_CREDENTIAL_SCOPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class FederatedCatalogFilterServiceTest {
@@ -174,6 +182,63 @@ public class FederatedCatalogFilterServiceTest {
         );
     }
 
+    @Test
+    void filterCatalogEvaluatesEachDistinctPolicyOnce() {
+        PolicyEngine countingEngine = mock();
+        when(countingEngine.evaluate(any(), any())).thenReturn(Result.success());
+        var hasher = new ContentHasher(JacksonJsonLd.createObjectMapper());
+        FederatedCatalogService service = new FederatedCatalogService(countingEngine, monitor, didResolverRegistry, transformerRegistry, jsonLd, httpClient, hasher, null);
+        ClaimToken tokens = ClaimToken.Builder.newInstance().claim("vc", List.of(createVc(MEMBERSHIP_CREDENTIAL_TYPE, Map.of("hello", "world")))).build();
+        var catalogs = List.of(
+                catalogWithOfferedActions("catalog-1", "use", "use", "read"),
+                catalogWithOfferedActions("catalog-2", "use", "read"));
+
+        Collection<Catalog> result = service.filterCatalog(catalogs, service.createContext(tokens, PARTICIPANT_DID), PARTICIPANT_DID);
+
+        assertEquals(5, result.stream().mapToInt(c -> c.getDatasets().size()).sum());
+        verify(countingEngine, times(2)).evaluate(any(), any());
+    }
+
+    @Test
+    void filterCatalogInParallelKeepsOrderAndEvaluatesEachDistinctPolicyOnce() {
+        PolicyEngine countingEngine = mock();
+        when(countingEngine.evaluate(any(), any())).thenAnswer(invocation -> {
+            Policy policy = invocation.getArgument(0);
+            return "use".equals(policy.getPermissions().get(0).getAction().getType()) ? Result.success() : Result.failure("denied");
+        });
+        var hasher = new ContentHasher(JacksonJsonLd.createObjectMapper());
+        var pool = new ForkJoinPool(4);
+        try {
+            FederatedCatalogService service = new FederatedCatalogService(countingEngine, monitor, didResolverRegistry, transformerRegistry, jsonLd, httpClient, hasher, null, pool, 1);
+            ClaimToken tokens = ClaimToken.Builder.newInstance().claim("vc", List.of(createVc(MEMBERSHIP_CREDENTIAL_TYPE, Map.of("hello", "world")))).build();
+            var catalogs = List.of(
+                    catalogWithOfferedActions("catalog-1", "use", "read", "use", "use"),
+                    catalogWithOfferedActions("catalog-2", "read", "use", "read", "use"));
+
+            Collection<Catalog> result = service.filterCatalog(catalogs, service.createContext(tokens, PARTICIPANT_DID), PARTICIPANT_DID);
+
+            assertEquals(List.of("catalog-1", "catalog-2"), result.stream().map(Catalog::getId).toList());
+            assertEquals(List.of("catalog-1-dataset-0", "catalog-1-dataset-2", "catalog-1-dataset-3", "catalog-2-dataset-1", "catalog-2-dataset-3"),
+                    result.stream().flatMap(c -> c.getDatasets().stream()).map(Dataset::getId).toList());
+            verify(countingEngine, times(2)).evaluate(any(), any());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Catalog catalogWithOfferedActions(String id, String... actions) {
+        List<Dataset> datasets = new ArrayList<>();
+        for (int i = 0; i < actions.length; i++) {
+            // A new policy instance per dataset, targeting its asset, as transformed from a catalog response
+            Policy policy = Policy.Builder.newInstance()
+                    .target(id + "-asset-" + i)
+                    .permission(Permission.Builder.newInstance().action(Action.Builder.newInstance().type(actions[i]).build()).build())
+                    .build();
+            datasets.add(Dataset.Builder.newInstance().id(id + "-dataset-" + i).offer("offer-" + i, policy).build());
+        }
+        return Catalog.Builder.newInstance().id(id).participantId("did:web:provider").datasets(datasets).build();
+    }
+
     private static VerifiableCredential createVc(String type, Map<String, Object> claims) {
         return VerifiableCredential.Builder.newInstance()
                 .type(type)
@@ -0,0 +1,133 @@
+package org.eclipse.edc.util;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.participant.spi.ParticipantAgent;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.FilterConstants.VC_CLAIMS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PolicyDecisionCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private final Clock clock = mock();
+    private final BooleanSupplier evaluation = mock();
+    private final ContentHasher hasher = new ContentHasher(JacksonJsonLd.createObjectMapper());
+    private final PolicyDecisionCache cache = new PolicyDecisionCache(hasher, clock, TTL, 100);
+
+    @Test
+    void isPermitted_samePolicyContentAndCredentials_evaluatedOnce() {
+        when(clock.instant()).thenReturn(NOW);
+        when(evaluation.getAsBoolean()).thenReturn(true);
+        var requester = cache.requester(agent("did:web:participant", vc("domain", null)));
+
+        assertThat(cache.isPermitted(hasher.hash(policy("use")), requester, evaluation)).isTrue();
+        assertThat(cache.isPermitted(hasher.hash(policy("use")), cache.requester(agent("did:web:participant", vc("domain", null))), evaluation)).isTrue();
+
+        verify(evaluation, times(1)).getAsBoolean();
+    }
+
+    @Test
+    void isPermitted_samePolicyOfferedForDifferentDatasets_sharesOneEntry() {
+        var singleEntryCache = new PolicyDecisionCache(hasher, clock, TTL, 1);
+        when(clock.instant()).thenReturn(NOW);
+        when(evaluation.getAsBoolean()).thenReturn(true);
+        var requester = singleEntryCache.requester(agent("did:web:participant", vc("domain", null)));
+
+        for (var asset : List.of("asset-1", "asset-2", "asset-3", "asset-1")) {
+            assertThat(singleEntryCache.isPermitted(hasher.hash(policy("use", asset)), requester, evaluation)).isTrue();
+        }
+
+        verify(evaluation, times(1)).getAsBoolean();
+    }
+
+    @Test
+    void isPermitted_differentCredentialsOrParticipant_evaluatedAgain() {
+        when(clock.instant()).thenReturn(NOW);
+        when(evaluation.getAsBoolean()).thenReturn(true, false, false);
+
+        assertThat(cache.isPermitted(hasher.hash(policy("use")), cache.requester(agent("did:web:participant", vc("domain", null))), evaluation)).isTrue();
+        assertThat(cache.isPermitted(hasher.hash(policy("use")), cache.requester(agent("did:web:participant", vc("other", null))), evaluation)).isFalse();
+        assertThat(cache.isPermitted(hasher.hash(policy("use")), cache.requester(agent("did:web:other", vc("domain", null))), evaluation)).isFalse();
+
+        verify(evaluation, times(3)).getAsBoolean();
+    }
+
+    @Test
+    void isPermitted_afterTtl_evaluatedAgain() {
+        when(clock.instant()).thenReturn(NOW);
+        when(evaluation.getAsBoolean()).thenReturn(true);
+        var requester = cache.requester(agent("did:web:participant", vc("domain", null)));
+        cache.isPermitted(hasher.hash(policy("use")), requester, evaluation);
+
+        when(clock.instant()).thenReturn(NOW.plus(TTL));
+        cache.isPermitted(hasher.hash(policy("use")), cache.requester(agent("did:web:participant", vc("domain", null))), evaluation);
+
+        verify(evaluation, times(2)).getAsBoolean();
+    }
+
+    @Test
+    void requester_expiresWithEarliestCredential() {
+        when(clock.instant()).thenReturn(NOW);
+        var expiration = NOW.plusSeconds(30);
+
+        var requester = cache.requester(agent("did:web:participant", vc("domain", expiration)));
+
+        assertThat(requester.expiresAt()).isEqualTo(expiration);
+    }
+
+    @Test
+    void isPermitted_expiredCredential_notCached() {
+        when(clock.instant()).thenReturn(NOW);
+        when(evaluation.getAsBoolean()).thenReturn(false);
+        var requester = cache.requester(agent("did:web:participant", vc("domain", NOW)));
+
+        cache.isPermitted(hasher.hash(policy("use")), requester, evaluation);
+        cache.isPermitted(hasher.hash(policy("use")), requester, evaluation);
+
+        verify(evaluation, times(2)).getAsBoolean();
+    }
+
+    private static ParticipantAgent agent(String did, VerifiableCredential credential) {
+        return new ParticipantAgent(did, Map.of(VC_CLAIMS, List.of(credential)), Map.of());
+    }
+
+    private static VerifiableCredential vc(String domain, Instant expirationDate) {
+        return VerifiableCredential.Builder.newInstance()
+                .type("DomainCredential")
+                .issuer(new Issuer("did:web:issuer"))
+                .issuanceDate(NOW.minusSeconds(3600))
+                .expirationDate(expirationDate)
+                .credentialSubject(CredentialSubject.Builder.newInstance().id("did:web:subject").claims(Map.of("domain", domain)).build())
+                .build();
+    }
+
+    private static Policy policy(String action) {
+        return policy(action, null);
+    }
+
+    private static Policy policy(String action, String target) {
+        return Policy.Builder.newInstance()
+                .target(target)
+                .permission(Permission.Builder.newInstance().action(Action.Builder.newInstance().type(action).build()).build())
+                .build();
+    }
+}
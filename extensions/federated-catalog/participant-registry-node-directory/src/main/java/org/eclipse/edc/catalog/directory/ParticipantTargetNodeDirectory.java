@@ -10,6 +10,8 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,14 +19,26 @@ public class ParticipantTargetNodeDirectory implements TargetNodeDirectory {
 
     private final HolderStore holderStore;
     private final TransactionContext transactionContext;
-    private final ParticipantToTargetNodeResolver resolver;
+    private final TargetNodeResolutionCache resolutionCache;
     private final String participantContextId;
     private final Monitor monitor;
 
+    /**
+     * Creates a directory resolving every DID document on each call, on the calling thread and without caching.
+     */
     public ParticipantTargetNodeDirectory(HolderStore holderStore, TransactionContext transactionContext, ParticipantToTargetNodeResolver resolver, String participantContextId, Monitor monitor) {
+        this(holderStore, transactionContext, new TargetNodeResolutionCache(resolver, Runnable::run, Clock.systemUTC(),
+                Duration.ZERO, Duration.ZERO, Duration.ZERO, monitor), participantContextId, monitor);
+    }
+
+    /**
+     * Creates a directory resolving the target nodes through {@code resolutionCache} instead of resolving every DID
+     * document one by one on each call.
+     */
+    public ParticipantTargetNodeDirectory(HolderStore holderStore, TransactionContext transactionContext, TargetNodeResolutionCache resolutionCache, String participantContextId, Monitor monitor) {
         this.holderStore = holderStore;
         this.transactionContext = transactionContext;
-        this.resolver = resolver;
+        this.resolutionCache = resolutionCache;
         this.participantContextId = participantContextId;
         this.monitor = monitor;
     }
@@ -33,9 +47,10 @@ public class ParticipantTargetNodeDirectory implements TargetNodeDirectory {
     @Override
     public List<TargetNode> getAll() {
         return transactionContext.execute(() -> ServiceResult.from(holderStore.query(QuerySpec.max())))
-                .map(participants -> participants.stream()
+                .map(participants -> resolutionCache.resolveAll(participants.stream()
                         .filter(holder -> !holder.getDid().equals(participantContextId))
-                        .map(resolver)
+                        .toList())
+                        .stream()
                         .peek(result -> {
                             if (result.failed()) {
                                 monitor.warning(result.getFailureDetail());
@@ -6,15 +6,41 @@ import org.eclipse.edc.issuerservice.spi.holder.store.HolderStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Extension(value = ParticipantTargetNodeDirectoryExtension.NAME)
 public class ParticipantTargetNodeDirectoryExtension implements ServiceExtension {
 
     public static final String NAME = "Participant Target Node Directory";
+    public static final long DEFAULT_DID_CACHE_TTL_SECONDS = 300;
+    public static final long DEFAULT_DID_FAILURE_TTL_SECONDS = 30;
+    public static final long DEFAULT_DID_RESOLUTION_TIMEOUT_SECONDS = 10;
+    public static final int DEFAULT_DID_RESOLUTION_PARALLELISM = 8;
+
+    @Setting(description = "Seconds a target node resolved from a DID document is reused before it is refreshed in the background",
+            defaultValue = DEFAULT_DID_CACHE_TTL_SECONDS + "", key = "dse.catalog.directory.did.cache.ttl.seconds", required = false)
+    public long didCacheTtlSeconds;
+
+    @Setting(description = "Seconds a failed DID resolution is reused before it is retried",
+            defaultValue = DEFAULT_DID_FAILURE_TTL_SECONDS + "", key = "dse.catalog.directory.did.failure.ttl.seconds", required = false)
+    public long didFailureTtlSeconds;
+
+    @Setting(description = "Seconds the target node directory waits for the DID documents of new participants, slower ones are skipped until the next crawl",
+            defaultValue = DEFAULT_DID_RESOLUTION_TIMEOUT_SECONDS + "", key = "dse.catalog.directory.did.resolution.timeout.seconds", required = false)
+    public long didResolutionTimeoutSeconds;
+
+    @Setting(description = "Maximum number of DID documents resolved concurrently by the target node directory",
+            defaultValue = DEFAULT_DID_RESOLUTION_PARALLELISM + "", key = "dse.catalog.directory.did.resolution.parallelism", required = false)
+    public int didResolutionParallelism;
 
     @Inject
     private HolderStore holderStore;
@@ -28,6 +54,11 @@ public class ParticipantTargetNodeDirectoryExtension implements ServiceExtension
     @Inject
     private DidResolverRegistry didResolverRegistry;
 
+    @Inject
+    private Clock clock;
+
+    private ExecutorService resolutionExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -37,8 +68,24 @@ public class ParticipantTargetNodeDirectoryExtension implements ServiceExtension
     public TargetNodeDirectory targetNodeDirectory(ServiceExtensionContext context) {
         var participantId = context.getSetting("edc.participant.id", "default-participant");
         var resolver = new ParticipantToTargetNodeResolver(didResolverRegistry);
+        resolutionExecutor = Executors.newFixedThreadPool(Math.max(1, didResolutionParallelism), r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("TargetNodeDidResolver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var resolutionCache = new TargetNodeResolutionCache(resolver, resolutionExecutor, clock,
+                Duration.ofSeconds(didCacheTtlSeconds), Duration.ofSeconds(didFailureTtlSeconds),
+                Duration.ofSeconds(didResolutionTimeoutSeconds), monitor);
         return new ParticipantTargetNodeDirectory(
-                holderStore, transactionContext, resolver, participantId, monitor);
+                holderStore, transactionContext, resolutionCache, participantId, monitor);
+    }
+
+    @Override
+    public void shutdown() {
+        if (resolutionExecutor != null) {
+            resolutionExecutor.shutdownNow();
+        }
     }
 
 }
@@ -0,0 +1,151 @@
+package org.eclipse.edc.catalog.directory;
+
+import org.eclipse.edc.crawler.spi.TargetNode;
+import org.eclipse.edc.issuerservice.spi.holder.model.Holder;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the target nodes resolved from the DID documents of the holders.
+ *
+ * <p>Successful resolutions are reused for {@code ttl}, failures for {@code failureTtl}. An expired entry is still
+ * returned, and refreshed in the background, so known participants never wait for their DID document. Holders without
+ * any entry are resolved in parallel on the executor. Resolutions not completed within {@code resolutionTimeout} are
+ * reported as failures for this call and keep running, so that their result is available to the next one. Results with a
+ * zero TTL are not cached, their holders are resolved again on every call.
+ */
+public class TargetNodeResolutionCache {
+
+    private final Function<Holder, Result<TargetNode>> resolver;
+    private final Executor executor;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration failureTtl;
+    private final Duration resolutionTimeout;
+    private final Monitor monitor;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Result<TargetNode>>> inFlight = new ConcurrentHashMap<>();
+
+    public TargetNodeResolutionCache(Function<Holder, Result<TargetNode>> resolver, Executor executor, Clock clock,
+                                     Duration ttl, Duration failureTtl, Duration resolutionTimeout, Monitor monitor) {
+        this.resolver = resolver;
+        this.executor = executor;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.failureTtl = failureTtl;
+        this.resolutionTimeout = resolutionTimeout;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the resolution result of every holder, in the order of {@code holders}. Entries of holders that are
+     * not part of {@code holders} are dropped.
+     */
+    public List<Result<TargetNode>> resolveAll(List<Holder> holders) {
+        var now = clock.instant();
+        var keys = holders.stream().map(TargetNodeResolutionCache::key).collect(Collectors.toSet());
+        entries.keySet().retainAll(keys);
+        var results = new ArrayList<Result<TargetNode>>(holders.size());
+        var pending = new LinkedHashMap<Integer, CompletableFuture<Result<TargetNode>>>();
+        for (var holder : holders) {
+            var key = key(holder);
+            var entry = entries.get(key);
+            if (entry == null) {
+                pending.put(results.size(), resolve(holder, key));
+                results.add(null);
+                continue;
+            }
+            if (!now.isBefore(entry.expiresAt())) {
+                // Stale while revalidate: the previous result is used until the refresh completes
+                resolve(holder, key);
+            }
+            results.add(entry.result());
+        }
+
+        if (!pending.isEmpty()) {
+            awaitAll(pending.values());
+            pending.forEach((position, future) -> results.set(position, future.isDone()
+                    ? future.join()
+                    : Result.failure("Resolution of DID '%s' did not complete within %s, retried in the background"
+                            .formatted(holders.get(position).getDid(), resolutionTimeout))));
+        }
+        return results;
+    }
+
+    private void awaitAll(Collection<CompletableFuture<Result<TargetNode>>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(resolutionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            monitor.debug("DID resolution timed out for some holders, their target nodes are skipped in this crawl");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Resolutions never complete exceptionally, see resolve
+            monitor.warning("Unexpected DID resolution failure", e);
+        }
+    }
+
+    /**
+     * Starts resolving the holder in the background, unless a resolution of the same holder is already running.
+     */
+    private CompletableFuture<Result<TargetNode>> resolve(Holder holder, String key) {
+        var future = new CompletableFuture<Result<TargetNode>>();
+        var running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
+                Result<TargetNode> result = Result.failure("Resolution of DID '%s' was aborted".formatted(holder.getDid()));
+                try {
+                    result = resolver.apply(holder);
+                } catch (RuntimeException e) {
+                    result = Result.failure("Failed to resolve DID '%s': %s".formatted(holder.getDid(), e.getMessage()));
+                } finally {
+                    // Also on errors, otherwise the holder would stay in flight and never be resolved again
+                    complete(key, future, result);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            complete(key, future, Result.failure("DID resolution of '%s' rejected: executor is shut down".formatted(holder.getDid())));
+        }
+        return future;
+    }
+
+    private void complete(String key, CompletableFuture<Result<TargetNode>> future, Result<TargetNode> result) {
+        var lifetime = result.succeeded() ? ttl : failureTtl;
+        if (lifetime.isZero()) {
+            entries.remove(key);
+        } else {
+            entries.put(key, new Entry(result, clock.instant().plus(lifetime)));
+        }
+        inFlight.remove(key, future);
+        future.complete(result);
+    }
+
+    private static String key(Holder holder) {
+        // The target node carries the participant context id, so it is part of the key
+        return holder.getDid() + "|" + holder.getParticipantContextId();
+    }
+
+    private record Entry(Result<TargetNode> result, Instant expiresAt) {
+    }
+}
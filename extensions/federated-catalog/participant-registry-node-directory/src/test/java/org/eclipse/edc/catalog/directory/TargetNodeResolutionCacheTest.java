@@ -0,0 +1,160 @@
+package org.eclipse.edc.catalog.directory;
+
+import org.eclipse.edc.crawler.spi.TargetNode;
+import org.eclipse.edc.issuerservice.spi.holder.model.Holder;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TargetNodeResolutionCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration FAILURE_TTL = Duration.ofSeconds(30);
+    private final Function<Holder, Result<TargetNode>> resolver = mock();
+    private final Clock clock = mock();
+    private final Monitor monitor = mock();
+
+    private static Holder createHolder() {
+        return Holder.Builder.newInstance()
+                .holderId(UUID.randomUUID().toString())
+                .did(UUID.randomUUID().toString())
+                .participantContextId(UUID.randomUUID().toString())
+                .holderName(UUID.randomUUID().toString())
+                .build();
+    }
+
+    private TargetNodeResolutionCache cache(Executor executor, Duration resolutionTimeout) {
+        return new TargetNodeResolutionCache(resolver, executor, clock, TTL, FAILURE_TTL, resolutionTimeout, monitor);
+    }
+
+    @Test
+    void resolveAll_freshEntry_resolvedOnce() {
+        var holder = createHolder();
+        var node = mock(TargetNode.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(resolver.apply(holder)).thenReturn(Result.success(node));
+        var cache = cache(Runnable::run, Duration.ofSeconds(1));
+
+        cache.resolveAll(List.of(holder));
+        var result = cache.resolveAll(List.of(holder));
+
+        assertThat(result).singleElement().satisfies(r -> assertThat(r.getContent()).isSameAs(node));
+        verify(resolver, times(1)).apply(holder);
+    }
+
+    @Test
+    void resolveAll_expiredEntry_returnsStaleAndRefreshes() {
+        var holder = createHolder();
+        var previous = mock(TargetNode.class);
+        var refreshed = mock(TargetNode.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(resolver.apply(holder)).thenReturn(Result.success(previous), Result.success(refreshed));
+        var cache = cache(Runnable::run, Duration.ofSeconds(1));
+        cache.resolveAll(List.of(holder));
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(TTL));
+        var stale = cache.resolveAll(List.of(holder));
+        var fresh = cache.resolveAll(List.of(holder));
+
+        assertThat(stale).singleElement().satisfies(r -> assertThat(r.getContent()).isSameAs(previous));
+        assertThat(fresh).singleElement().satisfies(r -> assertThat(r.getContent()).isSameAs(refreshed));
+        verify(resolver, times(2)).apply(holder);
+    }
+
+    @Test
+    void resolveAll_failure_retriedAfterFailureTtl() {
+        var holder = createHolder();
+        var node = mock(TargetNode.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(resolver.apply(holder)).thenReturn(Result.failure("unreachable"), Result.success(node));
+        var cache = cache(Runnable::run, Duration.ofSeconds(1));
+
+        assertThat(cache.resolveAll(List.of(holder))).singleElement().matches(Result::failed);
+        assertThat(cache.resolveAll(List.of(holder))).singleElement().matches(Result::failed);
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(FAILURE_TTL));
+        cache.resolveAll(List.of(holder));
+
+        assertThat(cache.resolveAll(List.of(holder))).singleElement().matches(Result::succeeded);
+    }
+
+    @Test
+    void resolveAll_resolverError_notLeftInFlight() {
+        var holder = createHolder();
+        var node = mock(TargetNode.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(resolver.apply(holder)).thenThrow(new StackOverflowError()).thenReturn(Result.success(node));
+        var cache = cache(runnable -> {
+            try {
+                runnable.run();
+            } catch (StackOverflowError e) {
+                // Swallowed, as by the thread of an executor
+            }
+        }, Duration.ofSeconds(1));
+
+        assertThat(cache.resolveAll(List.of(holder))).singleElement().matches(Result::failed);
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plus(FAILURE_TTL));
+        cache.resolveAll(List.of(holder));
+
+        assertThat(cache.resolveAll(List.of(holder))).singleElement().satisfies(r -> assertThat(r.getContent()).isSameAs(node));
+    }
+
+    @Test
+    void resolveAll_zeroTtl_resolvedOnEveryCall() {
+        var holder = createHolder();
+        var previous = mock(TargetNode.class);
+        var current = mock(TargetNode.class);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(resolver.apply(holder)).thenReturn(Result.success(previous), Result.success(current));
+        var cache = new TargetNodeResolutionCache(resolver, Runnable::run, clock, Duration.ZERO, Duration.ZERO, Duration.ZERO, monitor);
+
+        cache.resolveAll(List.of(holder));
+        var result = cache.resolveAll(List.of(holder));
+
+        assertThat(result).singleElement().satisfies(r -> assertThat(r.getContent()).isSameAs(current));
+        verify(resolver, times(2)).apply(holder);
+    }
+
+    @Test
+    void resolveAll_slowResolution_skippedThenAvailable() throws InterruptedException {
+        var holder = createHolder();
+        var node = mock(TargetNode.class);
+        var release = new CountDownLatch(1);
+        var resolved = new CountDownLatch(1);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(resolver.apply(holder)).thenAnswer(invocation -> {
+            release.await();
+            return Result.success(node);
+        });
+        var cache = cache(runnable -> new Thread(() -> {
+            runnable.run();
+            resolved.countDown();
+        }).start(), Duration.ofMillis(50));
+
+        var first = cache.resolveAll(List.of(holder));
+        release.countDown();
+        assertThat(resolved.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = cache.resolveAll(List.of(holder));
+
+        assertThat(first).singleElement().matches(Result::failed);
+        assertThat(second).singleElement().satisfies(r -> assertThat(r.getContent()).isSameAs(node));
+        verify(resolver, times(1)).apply(holder);
+    }
+}
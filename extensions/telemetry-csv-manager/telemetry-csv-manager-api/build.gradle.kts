@@ -11,6 +11,9 @@ dependencies {
     implementation(libs.edc.core.jersey)
     implementation("org.postgresql:postgresql:42.7.8")
     implementation("org.hibernate.orm:hibernate-core:7.1.2.Final")
+    implementation("com.zaxxer:HikariCP:6.3.0")
+    implementation("org.apache.arrow:arrow-vector:18.1.0")
+    runtimeOnly("org.apache.arrow:arrow-memory-unsafe:18.1.0")
     implementation("io.minio:minio:8.6.0")
     implementation(libs.jjwt.api)
     implementation("com.azure:azure-storage-blob:12.31.3")
@@ -29,6 +32,11 @@ dependencies {
     testImplementation("org.mockito:mockito-junit-jupiter:5.23.0")
 }
 
+// Arrow's memory module reads direct buffer addresses through reflection
+tasks.test {
+    jvmArgs("--add-opens", "java.base/java.nio=ALL-UNNAMED")
+}
+
 edcBuild {
     swagger {
         apiGroup.set("telemetry-csv-manager-api")
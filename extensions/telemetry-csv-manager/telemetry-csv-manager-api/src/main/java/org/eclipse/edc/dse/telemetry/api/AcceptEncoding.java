@@ -0,0 +1,53 @@
+package org.eclipse.edc.dse.telemetry.api;
+
+/**
+ * Content coding negotiation based on the {@code Accept-Encoding} request header (RFC 9110, section 12.5.3).
+ */
+final class AcceptEncoding {
+
+    private static final String WILDCARD = "*";
+    private static final String QUALITY_PARAMETER = "q=";
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Tells whether the client accepts a representation in the given content coding.
+     * <p>
+     * Although the RFC lets a missing header mean that any coding is acceptable, most non-browser clients that omit it cannot
+     * decode anything, so an absent header only accepts the identity coding.
+     */
+    static boolean accepts(String header, String coding) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+
+        Double wildcardQuality = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String candidate = parts[0].trim();
+            double quality = quality(parts);
+            if (candidate.equalsIgnoreCase(coding) || candidate.equalsIgnoreCase("x-" + coding)) {
+                return quality > 0;
+            }
+            if (candidate.equals(WILDCARD)) {
+                wildcardQuality = quality;
+            }
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,71 @@
+package org.eclipse.edc.dse.telemetry.api;
+
+/**
+ * A single, resolved byte range of a {@code Range} request header (RFC 9110, section 14).
+ * Only single ranges are supported, requests asking for several ranges are answered with the whole representation.
+ */
+record ByteRange(long start, long end) {
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    long length() {
+        return end - start + 1;
+    }
+
+    String contentRange(long size) {
+        return this == UNSATISFIABLE
+                ? "bytes */" + size
+                : "bytes " + start + "-" + end + "/" + size;
+    }
+
+    /**
+     * Resolves a {@code Range} header against a representation of the given size.
+     *
+     * @return the resolved range, {@link #UNSATISFIABLE} if no byte of the range exists, or null if the header is absent,
+     * malformed or not supported, in which case the whole representation must be sent
+     */
+    static ByteRange parse(String header, long size) {
+        if (header == null || !header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return null;
+        }
+
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (spec.indexOf(',') >= 0 || dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                return suffixRange(last, size);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            return start >= size ? UNSATISFIABLE : new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ByteRange suffixRange(String suffixLength, long size) {
+        if (suffixLength.isEmpty()) {
+            return null;
+        }
+        long length = Long.parseLong(suffixLength);
+        if (length < 0) {
+            return null;
+        }
+        if (length == 0 || size == 0) {
+            return UNSATISFIABLE;
+        }
+        return new ByteRange(Math.max(0, size - length), size - 1);
+    }
+}
@@ -37,18 +37,29 @@ public interface TelemetryCsvManagerApi {
     @Operation(description = "Retrieves Reports",
             operationId = "getReport",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "The telemetry event was processed successfully", content = @Content(schema = @Schema(implementation = String.class), mediaType = "text/csv")),
-                    @ApiResponse(responseCode = "400", description = "Invalid date range provided", content = @Content(schema = @Schema(implementation = String.class), mediaType = "application/json")),
+                    @ApiResponse(responseCode = "200", description = "The telemetry event was processed successfully", content = {
+                            @Content(schema = @Schema(implementation = String.class), mediaType = "text/csv"),
+                            @Content(schema = @Schema(type = "string", format = "binary"), mediaType = "application/vnd.apache.arrow.stream")}),
+                    @ApiResponse(responseCode = "206", description = "The requested byte range of the report", content = {
+                            @Content(schema = @Schema(implementation = String.class), mediaType = "text/csv"),
+                            @Content(schema = @Schema(type = "string", format = "binary"), mediaType = "application/vnd.apache.arrow.stream")}),
+                    @ApiResponse(responseCode = "304", description = "The report has not changed since the version identified by If-None-Match"),
+                    @ApiResponse(responseCode = "400", description = "Invalid date range or report format provided", content = @Content(schema = @Schema(implementation = String.class), mediaType = "application/json")),
                     @ApiResponse(responseCode = "401", description = "Invalid JWT token", content = @Content(schema = @Schema(implementation = String.class), mediaType = "application/json")),
                     @ApiResponse(responseCode = "403", description = "Missing/invalid participant in roles, unexpected number of participant roles or participant does not exist",
                             content = @Content(schema = @Schema(implementation = String.class), mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "Report not found",
                             content = @Content(schema = @Schema(implementation = String.class), mediaType = "application/json")),
+                    @ApiResponse(responseCode = "416", description = "The requested byte range is outside of the report"),
                     @ApiResponse(responseCode = "500", description = "Internal server error",
                             content = @Content(schema = @Schema(implementation = String.class), mediaType = "application/json"))
 
             }
     )
     Response getReport(@Parameter(hidden = true) @HeaderParam("Authorization") String authHeader, @Parameter(description = "Target month") @QueryParam("month") Integer month,
-                       @Parameter(description = "Target year") @QueryParam("year") Integer year);
+                       @Parameter(description = "Target year") @QueryParam("year") Integer year,
+                       @Parameter(description = "Report format, csv (default) or arrow for the typed columnar Apache Arrow IPC stream") @QueryParam("format") String format,
+                       @Parameter(description = "Entity tags of report versions already held by the client") @HeaderParam("If-None-Match") String ifNoneMatch,
+                       @Parameter(description = "Single byte range of the report to retrieve, e.g. bytes=0-1023") @HeaderParam("Range") String range,
+                       @Parameter(description = "Content codings accepted by the client, reports are sent gzip-compressed when gzip is accepted") @HeaderParam("Accept-Encoding") String acceptEncoding);
 }
\ No newline at end of file
@@ -14,16 +14,21 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.dse.telemetry.services.ReportUtil;
+import org.eclipse.edc.dse.telemetry.services.storage.StoredObject;
 import org.eclipse.edc.spi.monitor.Monitor;
 
 import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.dse.telemetry.services.report.ReportGeneratorSchedulerExtension.azureStorageService;
@@ -34,6 +39,12 @@ import static org.eclipse.edc.dse.telemetry.services.report.ReportGeneratorSched
 @Path("/billing-reports")
 public class TelemetryCsvManagerApiController implements TelemetryCsvManagerApi {
 
+    private static final String RANGE = "Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String DECODED_ETAG_SUFFIX = "-identity";
+    private static final String CSV_FORMAT = "csv";
+    private static final String COLUMNAR_FORMAT = "arrow";
     private static final Base64.Decoder DECODER = Base64.getDecoder();
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private final Monitor monitor;
@@ -45,8 +56,11 @@ public class TelemetryCsvManagerApiController implements TelemetryCsvManagerApi
 
     @GET
     @Consumes(MediaType.APPLICATION_JSON)
-    @Produces("text/csv")
-    public Response getReport(@HeaderParam("Authorization") String authHeader, @QueryParam("month") Integer month, @QueryParam("year") Integer year) {
+    @Produces({ReportUtil.CSV_CONTENT_TYPE, ReportUtil.COLUMNAR_CONTENT_TYPE})
+    public Response getReport(@HeaderParam("Authorization") String authHeader, @QueryParam("month") Integer month, @QueryParam("year") Integer year,
+                              @QueryParam("format") String format,
+                              @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch, @HeaderParam(RANGE) String range,
+                              @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
         monitor.info("Fetching report...");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             monitor.warning("Authorization header missing or malformed");
@@ -58,6 +72,12 @@ public class TelemetryCsvManagerApiController implements TelemetryCsvManagerApi
             return Response.status(Response.Status.BAD_REQUEST).entity("Invalid date range provided").build();
         }
 
+        boolean columnar = COLUMNAR_FORMAT.equalsIgnoreCase(format);
+        if (format != null && !columnar && !CSV_FORMAT.equalsIgnoreCase(format)) {
+            monitor.warning("Invalid report format provided: " + format);
+            return Response.status(Response.Status.BAD_REQUEST).entity("Invalid report format provided, expected csv or arrow").build();
+        }
+
         String jwtToken = authHeader.split(" ")[1]; // Removes Bearer part from header
         monitor.debug("JWT token received");
 
@@ -94,18 +114,17 @@ public class TelemetryCsvManagerApiController implements TelemetryCsvManagerApi
             }
 
             LocalDateTime dateTime = LocalDateTime.of(year, month, 1, 0, 0);
-            String reportFilename = ReportUtil.generateReportFileName(participantName, dateTime, false);
+            String csvFilename = ReportUtil.generateReportFileName(participantName, dateTime, false);
+            String reportFilename = columnar ? ReportUtil.toColumnarFileName(csvFilename) : csvFilename;
             String objectPath = ReportUtil.getObjectPath(dateTime, reportFilename, false);
-            byte[] csvData = getReportFromRemoteStorage(objectPath);
-            if (csvData == null) {
+            StoredObject report = getReportFromRemoteStorage(objectPath);
+            if (report == null) {
                 this.monitor.warning("No report found at path: " + objectPath + " for participant " + participantName + " month " + month + " year " + year);
                 return Response.status(Response.Status.NOT_FOUND).entity("No report found for specified period").build();
             } else {
                 this.monitor.info("Report successfully retrieved for participant: " + participantName);
-                return Response.ok(csvData)
-                        .type("text/csv")
-                        .header("Content-Disposition", "attachment; filename=\"" + reportFilename + "\"")
-                        .build();
+                String contentType = columnar ? ReportUtil.COLUMNAR_CONTENT_TYPE : ReportUtil.CSV_CONTENT_TYPE;
+                return buildReportResponse(report, reportFilename, contentType, ifNoneMatch, range, acceptEncoding);
             }
         } catch (JwtException e) {
             this.monitor.severe("JWT parsing failed: " + e.getMessage(), e);
@@ -179,13 +198,103 @@ public class TelemetryCsvManagerApiController implements TelemetryCsvManagerApi
         }
     }
 
-    private byte[] getReportFromRemoteStorage(String objectPath) {
-        monitor.debug("Attempting to download report from storage at path: " + objectPath);
-        try (InputStream downloadedInputStream = azureStorageService.download(objectPath)) {
-            return downloadedInputStream.readAllBytes();
+    private StoredObject getReportFromRemoteStorage(String objectPath) {
+        monitor.debug("Attempting to fetch report properties from storage at path: " + objectPath);
+        try {
+            return azureStorageService.getProperties(objectPath);
         } catch (Exception e) {
             this.monitor.warning("Exception thrown while getting report: " + e);
             return null;
         }
     }
+
+    // Reports are streamed from the storage straight into the response, so the API never holds a whole report in memory
+    private Response buildReportResponse(StoredObject report, String reportFilename, String contentType, String ifNoneMatch, String rangeHeader, String acceptEncoding) {
+        String encoding = report.contentEncoding();
+        if (encoding != null && !AcceptEncoding.accepts(acceptEncoding, encoding)) {
+            return buildDecodedReportResponse(report, reportFilename, contentType, ifNoneMatch);
+        }
+
+        String eTag = quoted(report.eTag());
+        if (matchesAnyEntityTag(ifNoneMatch, eTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, eTag).build();
+        }
+
+        // Ranges of an encoded report address the encoded bytes, as for any other content coding
+        long size = report.size();
+        ByteRange range = ByteRange.parse(rangeHeader, size);
+        if (range == ByteRange.UNSATISFIABLE) {
+            return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(CONTENT_RANGE, range.contentRange(size))
+                    .build();
+        }
+
+        long offset = range == null ? 0 : range.start();
+        long length = range == null ? size : range.length();
+        StreamingOutput body = output -> {
+            if (length == 0) {
+                return;
+            }
+            try (InputStream inputStream = azureStorageService.download(report.path(), offset, length, report.eTag())) {
+                inputStream.transferTo(output);
+            }
+        };
+
+        Response.ResponseBuilder builder = (range == null ? Response.ok(body) : Response.status(Response.Status.PARTIAL_CONTENT).entity(body))
+                .type(contentType)
+                .header(HttpHeaders.ETAG, eTag)
+                .header(ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_LENGTH, length)
+                .header("Content-Disposition", "attachment; filename=\"" + reportFilename + "\"");
+        if (range != null) {
+            builder.header(CONTENT_RANGE, range.contentRange(size));
+        }
+        if (encoding != null) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return builder.build();
+    }
+
+    // The decoded size is unknown until the report has been read, so this representation is sent whole and without a length
+    private Response buildDecodedReportResponse(StoredObject report, String reportFilename, String contentType, String ifNoneMatch) {
+        String eTag = decodedEntityTag(report.eTag());
+        if (matchesAnyEntityTag(ifNoneMatch, eTag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, eTag).build();
+        }
+
+        StreamingOutput body = output -> {
+            try (InputStream inputStream = new GZIPInputStream(azureStorageService.download(report.path(), 0, report.size(), report.eTag()))) {
+                inputStream.transferTo(output);
+            }
+        };
+
+        return Response.ok(body)
+                .type(contentType)
+                .header(HttpHeaders.ETAG, eTag)
+                .header(ACCEPT_RANGES, "none")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header("Content-Disposition", "attachment; filename=\"" + reportFilename + "\"")
+                .build();
+    }
+
+    private static boolean matchesAnyEntityTag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        // If-None-Match uses the weak comparison, so W/ prefixes are ignored
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+    }
+
+    private static String quoted(String eTag) {
+        return eTag.startsWith("\"") ? eTag : "\"" + eTag + "\"";
+    }
+
+    // Each representation of a report needs its own strong entity tag, otherwise caches could mix encoded and decoded bytes
+    private static String decodedEntityTag(String eTag) {
+        String quoted = quoted(eTag);
+        return quoted.substring(0, quoted.length() - 1) + DECODED_ETAG_SUFFIX + "\"";
+    }
 }
@@ -0,0 +1,102 @@
+package org.eclipse.edc.dse.telemetry.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.eclipse.edc.dse.telemetry.repository.ParticipantContractStats;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Partial result of the report aggregation: the telemetry events of one participant, contract and response status over a single day.
+ */
+@Entity
+@Table(name = "daily_contract_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "unique_day_participant_contract_status",
+                columnNames = {"snapshot_day", "participant_did", "contract_id", "response_status_code"}
+        )
+)
+public class DailyContractStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "snapshot_day", nullable = false)
+    private LocalDate snapshotDay;
+
+    @Column(name = "participant_did", nullable = false)
+    private String participantId;
+
+    @Column(name = "contract_id", nullable = false)
+    private String contractId;
+
+    @Column(name = "response_status_code", nullable = false)
+    private Integer responseStatusCode;
+
+    @Column(name = "msg_size", nullable = false)
+    private Long msgSize;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount;
+
+    public DailyContractStats() {
+    }
+
+    public DailyContractStats(LocalDate snapshotDay, ParticipantContractStats stats) {
+        this.snapshotDay = snapshotDay;
+        this.participantId = stats.participantId();
+        this.contractId = stats.contractId();
+        this.responseStatusCode = stats.responseStatus();
+        this.msgSize = stats.msgSize();
+        this.eventCount = stats.eventCount();
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public LocalDate getSnapshotDay() {
+        return snapshotDay;
+    }
+
+    public String getParticipantId() {
+        return participantId;
+    }
+
+    public String getContractId() {
+        return contractId;
+    }
+
+    public Integer getResponseStatusCode() {
+        return responseStatusCode;
+    }
+
+    public Long getMsgSize() {
+        return msgSize;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        DailyContractStats that = (DailyContractStats) o;
+        return Objects.equals(id, that.id) && Objects.equals(snapshotDay, that.snapshotDay) && Objects.equals(participantId, that.participantId) &&
+                Objects.equals(contractId, that.contractId) && Objects.equals(responseStatusCode, that.responseStatusCode) &&
+                Objects.equals(msgSize, that.msgSize) && Objects.equals(eventCount, that.eventCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, snapshotDay, participantId, contractId, responseStatusCode, msgSize, eventCount);
+    }
+}
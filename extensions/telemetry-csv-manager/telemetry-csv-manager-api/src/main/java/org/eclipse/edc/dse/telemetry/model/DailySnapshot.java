@@ -0,0 +1,57 @@
+package org.eclipse.edc.dse.telemetry.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Marks a day whose telemetry events have been aggregated into {@link DailyContractStats}.
+ * A day without any event has a snapshot but no stats, which distinguishes it from a day that has not been aggregated yet.
+ */
+@Entity
+@Table(name = "daily_snapshot")
+public class DailySnapshot {
+
+    @Id
+    @Column(name = "snapshot_day", nullable = false)
+    private LocalDate snapshotDay;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    public DailySnapshot() {
+    }
+
+    public DailySnapshot(LocalDate snapshotDay) {
+        if (snapshotDay == null) {
+            throw new IllegalArgumentException("snapshotDay cannot be null.");
+        }
+        this.snapshotDay = snapshotDay;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public LocalDate getSnapshotDay() {
+        return snapshotDay;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        DailySnapshot that = (DailySnapshot) o;
+        return Objects.equals(snapshotDay, that.snapshotDay) && Objects.equals(timestamp, that.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(snapshotDay, timestamp);
+    }
+}
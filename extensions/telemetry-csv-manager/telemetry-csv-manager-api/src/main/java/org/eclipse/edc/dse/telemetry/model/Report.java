@@ -2,6 +2,7 @@ package org.eclipse.edc.dse.telemetry.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -30,7 +31,7 @@ public class Report {
     @Column(name = "csv_link", nullable = false)
     private String csvLink;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "participant_did", referencedColumnName = "id",
             foreignKey = @ForeignKey(name = "report_participant_did_fk"))
     private ParticipantId participant;
@@ -0,0 +1,19 @@
+package org.eclipse.edc.dse.telemetry.model;
+
+/**
+ * The two reports generated for every participant and month.
+ */
+public enum ReportFlavour {
+    STANDARD(false),
+    EXTENDED(true);
+
+    private final boolean includeCounterpartyInfo;
+
+    ReportFlavour(boolean includeCounterpartyInfo) {
+        this.includeCounterpartyInfo = includeCounterpartyInfo;
+    }
+
+    public boolean includeCounterpartyInfo() {
+        return includeCounterpartyInfo;
+    }
+}
@@ -0,0 +1,142 @@
+package org.eclipse.edc.dse.telemetry.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Checkpoint of the monthly generation of one report of one participant. A run that is interrupted or fails leaves the job
+ * in progress or failed, and the next run only regenerates the reports whose job is not completed.
+ */
+@Entity
+@Table(name = "report_job",
+        uniqueConstraints = @UniqueConstraint(
+                name = "unique_report_month_participant_flavour",
+                columnNames = {"report_month", "participant_did", "flavour"}
+        )
+)
+public class ReportJob {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "report_month", nullable = false)
+    private LocalDate reportMonth;
+
+    @Column(name = "participant_did", nullable = false)
+    private String participantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportFlavour flavour;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportJobStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    public ReportJob() {
+    }
+
+    public ReportJob(LocalDate reportMonth, String participantId, ReportFlavour flavour) {
+        if (reportMonth == null || participantId == null || flavour == null) {
+            throw new IllegalArgumentException("reportMonth, participantId and flavour cannot be null.");
+        }
+        this.reportMonth = reportMonth.withDayOfMonth(1);
+        this.participantId = participantId;
+        this.flavour = flavour;
+        this.status = ReportJobStatus.IN_PROGRESS;
+        this.attempts = 0;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.status = ReportJobStatus.IN_PROGRESS;
+        this.attempts++;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = ReportJobStatus.COMPLETED;
+        this.lastError = null;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = ReportJobStatus.FAILED;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == ReportJobStatus.COMPLETED;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public LocalDate getReportMonth() {
+        return reportMonth;
+    }
+
+    public String getParticipantId() {
+        return participantId;
+    }
+
+    public ReportFlavour getFlavour() {
+        return flavour;
+    }
+
+    public ReportJobStatus getStatus() {
+        return status;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportJob reportJob = (ReportJob) o;
+        return Objects.equals(id, reportJob.id) && Objects.equals(reportMonth, reportJob.reportMonth) &&
+                Objects.equals(participantId, reportJob.participantId) && flavour == reportJob.flavour && status == reportJob.status &&
+                Objects.equals(attempts, reportJob.attempts) && Objects.equals(lastError, reportJob.lastError) &&
+                Objects.equals(timestamp, reportJob.timestamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, reportMonth, participantId, flavour, status, attempts, lastError, timestamp);
+    }
+}
@@ -0,0 +1,7 @@
+package org.eclipse.edc.dse.telemetry.model;
+
+public enum ReportJobStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
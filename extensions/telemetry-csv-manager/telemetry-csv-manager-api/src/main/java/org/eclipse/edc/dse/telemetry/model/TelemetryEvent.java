@@ -2,6 +2,7 @@ package org.eclipse.edc.dse.telemetry.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -28,7 +29,8 @@ public class TelemetryEvent {
     @Column(name = "contract_id", nullable = false)
     private String contractId;
 
-    @ManyToOne(optional = false)
+    // Lazy, the report queries only need the participant id, which is read from the join column
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "participant_did", referencedColumnName = "id",
             foreignKey = @ForeignKey(name = "telemetry_event_participant_did_fk"))
     private ParticipantId participant;
@@ -39,7 +41,7 @@ public class TelemetryEvent {
     @Column(name = "msg_size", nullable = false)
     private int msgSize;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "csv_id", referencedColumnName = "id",
             foreignKey = @ForeignKey(name = "telemetry_event_csv_id_fk"))
     private Report csvReport;
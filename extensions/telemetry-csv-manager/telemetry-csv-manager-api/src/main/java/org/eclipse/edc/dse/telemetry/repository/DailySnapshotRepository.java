@@ -0,0 +1,97 @@
+package org.eclipse.edc.dse.telemetry.repository;
+
+import jakarta.persistence.EntityManager;
+import org.eclipse.edc.dse.telemetry.model.DailyContractStats;
+import org.eclipse.edc.dse.telemetry.model.DailySnapshot;
+import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class DailySnapshotRepository extends GenericRepository<DailySnapshot> {
+    public DailySnapshotRepository(EntityManager em) {
+        super(em, DailySnapshot.class);
+    }
+
+    public Set<LocalDate> findSnapshotDays(LocalDate from, LocalDate to) {
+        return new HashSet<>(em.createQuery(
+                        "SELECT s.snapshotDay FROM DailySnapshot s WHERE s.snapshotDay >= :from AND s.snapshotDay < :to", LocalDate.class)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList());
+    }
+
+    /**
+     * Replaces the partial results of the given day, so that a day can be aggregated again without counting its events twice.
+     */
+    public void replaceSnapshot(LocalDate day, List<ParticipantContractStats> stats) {
+        executeInTransaction(() -> {
+            // The bulk delete bypasses the persistence context, so a snapshot it still manages has to be removed through it
+            DailySnapshot previous = em.find(DailySnapshot.class, day);
+            if (previous != null) {
+                em.remove(previous);
+                em.flush();
+            }
+            deleteDays(day, day.plusDays(1));
+            stats.forEach(s -> em.persist(new DailyContractStats(day, s)));
+            em.persist(new DailySnapshot(day));
+        });
+    }
+
+    /**
+     * Merges the partial results of every day of the month, grouped and ordered like
+     * {@link TelemetryEventRepository#findStatsGroupedByParticipantIdContractIdAndStatusCode(Integer, Integer)}.
+     */
+    public List<ParticipantContractStats> findStatsGroupedByParticipantIdContractIdAndStatusCode(Integer month, Integer year) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        return em.createQuery(
+                        "SELECT new org.eclipse.edc.dse.telemetry.repository.ParticipantContractStats(d.participantId, d.contractId, d.responseStatusCode, SUM(d.msgSize), SUM(d.eventCount)) " +
+                                "FROM DailyContractStats d WHERE d.snapshotDay >= :startDate AND d.snapshotDay < :endDate " +
+                                "GROUP BY d.participantId, d.contractId, d.responseStatusCode ORDER BY d.participantId, d.contractId, d.responseStatusCode",
+                        ParticipantContractStats.class)
+                .setParameter("startDate", start)
+                .setParameter("endDate", start.plusMonths(1))
+                .getResultList();
+    }
+
+    /**
+     * Resolves the parties of every contract with partial results in the given month from the partial results, so that no event is read.
+     * Unlike {@link TelemetryEventRepository#findContractPartiesForMonth(Integer, Integer)}, parties are looked up over the retained days only.
+     */
+    public Map<String, List<ParticipantId>> findContractPartiesForMonth(Integer month, Integer year) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        List<Object[]> rows = em.createQuery(
+                        "SELECT DISTINCT d.contractId, p FROM DailyContractStats d, ParticipantId p WHERE p.id = d.participantId AND d.contractId IN " +
+                                "(SELECT m.contractId FROM DailyContractStats m WHERE m.snapshotDay >= :startDate AND m.snapshotDay < :endDate)",
+                        Object[].class)
+                .setParameter("startDate", start)
+                .setParameter("endDate", start.plusMonths(1))
+                .getResultList();
+
+        Map<String, List<ParticipantId>> contractParties = new HashMap<>();
+        for (Object[] row : rows) {
+            contractParties.computeIfAbsent((String) row[0], contractId -> new ArrayList<>()).add((ParticipantId) row[1]);
+        }
+        return contractParties;
+    }
+
+    public void deleteSnapshotsBefore(LocalDate day) {
+        executeInTransaction(() -> deleteDays(LocalDate.EPOCH, day));
+    }
+
+    private void deleteDays(LocalDate from, LocalDate to) {
+        em.createQuery("DELETE FROM DailyContractStats d WHERE d.snapshotDay >= :from AND d.snapshotDay < :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+        em.createQuery("DELETE FROM DailySnapshot s WHERE s.snapshotDay >= :from AND s.snapshotDay < :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,31 @@
+package org.eclipse.edc.dse.telemetry.repository;
+
+/**
+ * Sizing of the pooled datasource backing the entity manager factory and the JDBC fetch size used by the report queries.
+ */
+public record JpaPoolConfig(int maxPoolSize, int minIdle, long connectionTimeoutMs, int fetchSize) {
+
+    public static final int DEFAULT_MAX_POOL_SIZE = 10;
+    public static final int DEFAULT_MIN_IDLE = 2;
+    public static final long DEFAULT_CONNECTION_TIMEOUT_MS = 30000;
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    public JpaPoolConfig {
+        if (maxPoolSize < 1) {
+            throw new IllegalArgumentException("maxPoolSize must be at least 1");
+        }
+        if (minIdle < 0 || minIdle > maxPoolSize) {
+            throw new IllegalArgumentException("minIdle must be between 0 and maxPoolSize");
+        }
+        if (connectionTimeoutMs < 250) {
+            throw new IllegalArgumentException("connectionTimeoutMs must be at least 250");
+        }
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("fetchSize must be at least 1");
+        }
+    }
+
+    public static JpaPoolConfig defaults() {
+        return new JpaPoolConfig(DEFAULT_MAX_POOL_SIZE, DEFAULT_MIN_IDLE, DEFAULT_CONNECTION_TIMEOUT_MS, DEFAULT_FETCH_SIZE);
+    }
+}
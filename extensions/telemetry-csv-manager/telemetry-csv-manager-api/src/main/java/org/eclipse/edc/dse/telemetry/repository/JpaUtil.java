@@ -1,5 +1,8 @@
 package org.eclipse.edc.dse.telemetry.repository;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
@@ -12,22 +15,48 @@ import java.util.Map;
  */
 public final class JpaUtil {
 
+    public static final String POOL_NAME = "telemetry-csv-manager";
+
     private static EntityManagerFactory emf;
+    private static HikariDataSource dataSource;
 
     private JpaUtil() {
     }
 
     public static void init(String persistenceUnitName, String datasourceDefaultUrl, String datasourceDefaultUser, String datasourceDefaultPassword) {
-        Map<String, Object> props = new HashMap<>();
-
-        props.put("jakarta.persistence.jdbc.driver", "org.postgresql.Driver");
-        props.put("jakarta.persistence.jdbc.url", datasourceDefaultUrl);
-        props.put("jakarta.persistence.jdbc.user", datasourceDefaultUser);
-        props.put("jakarta.persistence.jdbc.password", datasourceDefaultPassword);
+        init(persistenceUnitName, datasourceDefaultUrl, datasourceDefaultUser, datasourceDefaultPassword, JpaPoolConfig.defaults());
+    }
 
-        if (emf == null) {
-            emf = Persistence.createEntityManagerFactory(persistenceUnitName, props);
+    public static synchronized void init(String persistenceUnitName, String datasourceDefaultUrl, String datasourceDefaultUser, String datasourceDefaultPassword,
+                                         JpaPoolConfig poolConfig) {
+        if (emf != null) {
+            return;
         }
+        dataSource = createDataSource(datasourceDefaultUrl, datasourceDefaultUser, datasourceDefaultPassword, poolConfig);
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("jakarta.persistence.nonJtaDataSource", dataSource);
+        // Applied to every statement, so month-sized result sets are streamed from the database in chunks
+        // instead of being buffered whole by the driver
+        props.put("hibernate.jdbc.fetch_size", poolConfig.fetchSize());
+        emf = Persistence.createEntityManagerFactory(persistenceUnitName, props);
+    }
+
+    // The persistence unit declares provider_disables_autocommit, so the pool must hand out connections with autocommit off.
+    // This is also what lets the PostgreSQL driver honour the fetch size with a server-side cursor.
+    private static HikariDataSource createDataSource(String url, String user, String password, JpaPoolConfig poolConfig) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(POOL_NAME);
+        config.setDriverClassName("org.postgresql.Driver");
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(poolConfig.maxPoolSize());
+        config.setMinimumIdle(poolConfig.minIdle());
+        config.setConnectionTimeout(poolConfig.connectionTimeoutMs());
+        config.setRegisterMbeans(true);
+        return new HikariDataSource(config);
     }
 
     public static EntityManagerFactory getEntityManagerFactory() {
@@ -41,9 +70,36 @@ public final class JpaUtil {
         return getEntityManagerFactory().createEntityManager();
     }
 
-    public static void shutdown() {
+    /**
+     * Returns a snapshot of the connection pool usage, or null when the pool has not been initialized (e.g. in tests).
+     */
+    public static PoolMetrics poolMetrics() {
+        HikariDataSource current = dataSource;
+        if (current == null || current.isClosed()) {
+            return null;
+        }
+        HikariPoolMXBean pool = current.getHikariPoolMXBean();
+        if (pool == null) {
+            return null;
+        }
+        return new PoolMetrics(pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(), pool.getThreadsAwaitingConnection());
+    }
+
+    public static synchronized void shutdown() {
         if (emf != null && emf.isOpen()) {
             emf.close();
         }
+        emf = null;
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    public record PoolMetrics(int active, int idle, int total, int waiting) {
+        @Override
+        public String toString() {
+            return String.format("active=%d, idle=%d, total=%d, waiting=%d", active, idle, total, waiting);
+        }
     }
 }
@@ -0,0 +1,8 @@
+package org.eclipse.edc.dse.telemetry.repository;
+
+public record ParticipantContractStats(String participantId, String contractId, Integer responseStatus, Long msgSize, Long eventCount) {
+
+    public ContractStats toContractStats() {
+        return new ContractStats(contractId, responseStatus, msgSize, eventCount);
+    }
+}
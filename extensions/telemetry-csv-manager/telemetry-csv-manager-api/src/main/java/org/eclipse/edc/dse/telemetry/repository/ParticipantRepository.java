@@ -3,6 +3,8 @@ package org.eclipse.edc.dse.telemetry.repository;
 import jakarta.persistence.EntityManager;
 import org.eclipse.edc.dse.telemetry.model.ParticipantId;
 
+import java.util.List;
+
 public class ParticipantRepository extends GenericRepository<ParticipantId> {
     public ParticipantRepository(EntityManager em) {
         super(em, ParticipantId.class);
@@ -13,4 +15,9 @@ public class ParticipantRepository extends GenericRepository<ParticipantId> {
                 .setParameter("participantName", participantName)
                 .getSingleResultOrNull();
     }
+
+    public List<String> findAllIds() {
+        return em.createQuery("SELECT p.id FROM ParticipantId p ORDER BY p.id", String.class)
+                .getResultList();
+    }
 }
@@ -0,0 +1,63 @@
+package org.eclipse.edc.dse.telemetry.repository;
+
+import jakarta.persistence.EntityManager;
+import org.eclipse.edc.dse.telemetry.model.ReportFlavour;
+import org.eclipse.edc.dse.telemetry.model.ReportJob;
+import org.eclipse.edc.dse.telemetry.model.ReportJobStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class ReportJobRepository extends GenericRepository<ReportJob> {
+    public ReportJobRepository(EntityManager em) {
+        super(em, ReportJob.class);
+    }
+
+    public ReportJob findJob(LocalDate reportMonth, String participantId, ReportFlavour flavour) {
+        return em.createQuery("SELECT j FROM ReportJob j WHERE j.reportMonth = :reportMonth AND j.participantId = :participantId AND j.flavour = :flavour",
+                        ReportJob.class)
+                .setParameter("reportMonth", reportMonth.withDayOfMonth(1))
+                .setParameter("participantId", participantId)
+                .setParameter("flavour", flavour)
+                .getSingleResultOrNull();
+    }
+
+    public List<ReportJob> findByReportMonth(LocalDate reportMonth) {
+        return em.createQuery("SELECT j FROM ReportJob j WHERE j.reportMonth = :reportMonth", ReportJob.class)
+                .setParameter("reportMonth", reportMonth.withDayOfMonth(1))
+                .getResultList();
+    }
+
+    public long countByReportMonthAndStatus(LocalDate reportMonth, ReportJobStatus status) {
+        return em.createQuery("SELECT COUNT(j) FROM ReportJob j WHERE j.reportMonth = :reportMonth AND j.status = :status", Long.class)
+                .setParameter("reportMonth", reportMonth.withDayOfMonth(1))
+                .setParameter("status", status)
+                .getSingleResult();
+    }
+
+    /**
+     * Marks the job as started, creating it on its first attempt.
+     */
+    public ReportJob startJob(LocalDate reportMonth, String participantId, ReportFlavour flavour) {
+        ReportJob job = findJob(reportMonth, participantId, flavour);
+        if (job == null) {
+            job = new ReportJob(reportMonth, participantId, flavour);
+            job.start();
+            saveTransactional(job);
+        } else {
+            job.start();
+            updateTransactional(job);
+        }
+        return job;
+    }
+
+    public void completeJob(ReportJob job) {
+        job.complete();
+        updateTransactional(job);
+    }
+
+    public void failJob(ReportJob job, String error) {
+        job.fail(error);
+        updateTransactional(job);
+    }
+}
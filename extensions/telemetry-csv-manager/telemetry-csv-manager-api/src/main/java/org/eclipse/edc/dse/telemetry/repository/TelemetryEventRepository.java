@@ -3,10 +3,14 @@ package org.eclipse.edc.dse.telemetry.repository;
 import jakarta.persistence.EntityManager;
 import org.eclipse.edc.dse.telemetry.model.ParticipantId;
 import org.eclipse.edc.dse.telemetry.model.TelemetryEvent;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class TelemetryEventRepository extends GenericRepository<TelemetryEvent> {
     public TelemetryEventRepository(EntityManager em) {
@@ -21,6 +25,8 @@ public class TelemetryEventRepository extends GenericRepository<TelemetryEvent>
                 .setParameter("participantId", participantId)
                 .setParameter("startDate", start)
                 .setParameter("endDate", end)
+                // The events are only attached to the report in memory, so they are loaded without dirty-checking snapshots
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
                 .getResultList();
     }
 
@@ -70,6 +76,52 @@ public class TelemetryEventRepository extends GenericRepository<TelemetryEvent>
                 .getSingleResultOrNull();
     }
 
+    /**
+     * Aggregates the whole month in a single scan, grouped by participant, contract and response status.
+     * Rows are ordered so that every participant's stats are contiguous and in a stable order.
+     */
+    public List<ParticipantContractStats> findStatsGroupedByParticipantIdContractIdAndStatusCode(Integer month, Integer year) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        return findStatsGroupedByParticipantIdContractIdAndStatusCode(startDate.atStartOfDay(), startDate.plusMonths(1).atStartOfDay());
+    }
+
+    /**
+     * Same aggregation as {@link #findStatsGroupedByParticipantIdContractIdAndStatusCode(Integer, Integer)} over an arbitrary period, e.g. a single day.
+     */
+    public List<ParticipantContractStats> findStatsGroupedByParticipantIdContractIdAndStatusCode(LocalDateTime start, LocalDateTime end) {
+        return em.createQuery(
+                        "SELECT new org.eclipse.edc.dse.telemetry.repository.ParticipantContractStats(e.participant.id, e.contractId, e.responseStatusCode, SUM(e.msgSize), COUNT(e)) " +
+                                "FROM TelemetryEvent e WHERE e.timestamp >= :startDate AND e.timestamp < :endDate " +
+                                "GROUP BY e.participant.id, e.contractId, e.responseStatusCode ORDER BY e.participant.id, e.contractId, e.responseStatusCode",
+                        ParticipantContractStats.class)
+                .setParameter("startDate", start)
+                .setParameter("endDate", end)
+                .getResultList();
+    }
+
+    /**
+     * Resolves the parties of every contract that has at least one event in the given month, in a single query.
+     * As for {@link #findContractParties(String)}, parties are looked up over all events of the contract, not only the ones of the month.
+     */
+    public Map<String, List<ParticipantId>> findContractPartiesForMonth(Integer month, Integer year) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = startDate.plusMonths(1).atStartOfDay();
+        List<Object[]> rows = em.createQuery(
+                        "SELECT DISTINCT e.contractId, e.participant FROM TelemetryEvent e WHERE e.contractId IN " +
+                                "(SELECT m.contractId FROM TelemetryEvent m WHERE m.timestamp >= :startDate AND m.timestamp < :endDate)",
+                        Object[].class)
+                .setParameter("startDate", start)
+                .setParameter("endDate", end)
+                .getResultList();
+
+        Map<String, List<ParticipantId>> contractParties = new HashMap<>();
+        for (Object[] row : rows) {
+            contractParties.computeIfAbsent((String) row[0], contractId -> new ArrayList<>()).add((ParticipantId) row[1]);
+        }
+        return contractParties;
+    }
+
     public List<ParticipantId> findContractParties(String contractId) {
         return em.createQuery("SELECT DISTINCT e.participant FROM TelemetryEvent e WHERE e.contractId = :contractId", ParticipantId.class)
                 .setParameter("contractId", contractId)
@@ -1,16 +1,31 @@
 package org.eclipse.edc.dse.telemetry.services;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 public class ReportUtil {
 
+    public static final String GZIP_ENCODING = "gzip";
+    public static final String CSV_CONTENT_TYPE = "text/csv";
+    public static final String COLUMNAR_CONTENT_TYPE = "application/vnd.apache.arrow.stream";
+    public static final String COLUMNAR_FILE_EXTENSION = ".arrows";
+    private static final String CSV_FILE_EXTENSION = ".csv";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
     public static final String EXTENDED_REPORT_HEADER = "contract_id,data_transfer_response_status,participant_name,counterparty_name," +
             "participant_total_transfer_size_in_kB,counterparty_total_transfer_size_in_kB,participant_total_number_of_events," +
             "counterparty_total_number_of_events";
@@ -29,7 +44,16 @@ public class ReportUtil {
     public static String generateReportFileName(String participantName, LocalDateTime targetDateTime, boolean isCounterpartyReport) {
         int year = targetDateTime.getYear();
         int month = targetDateTime.getMonthValue();
-        return (isCounterpartyReport ? "extended-" : "") + "report-" + participantName + "-" + year + "-" + month + ".csv";
+        return (isCounterpartyReport ? "extended-" : "") + "report-" + participantName + "-" + year + "-" + month + CSV_FILE_EXTENSION;
+    }
+
+    /**
+     * Returns the name of the columnar (Arrow IPC stream) variant of a report, which is stored next to the CSV.
+     */
+    public static String toColumnarFileName(String csvFileName) {
+        return csvFileName.endsWith(CSV_FILE_EXTENSION)
+                ? csvFileName.substring(0, csvFileName.length() - CSV_FILE_EXTENSION.length()) + COLUMNAR_FILE_EXTENSION
+                : csvFileName + COLUMNAR_FILE_EXTENSION;
     }
 
     public static String getObjectPath(LocalDateTime dateTime, String fileName, boolean isCounterpartyReport) {
@@ -63,6 +87,30 @@ public class ReportUtil {
         return baos.toString(StandardCharsets.UTF_8);
     }
 
+    /**
+     * Writes the report content gzip-compressed to the given stream, which is left open. Lines are formatted and compressed as they are
+     * consumed from {@code csvLines}, so neither the CSV text nor the compressed report is held in memory.
+     */
+    public static void writeCompressedCsvReport(OutputStream outputStream, Stream<String> csvLines, boolean includeCounterpartyInfo) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(nonClosing(outputStream), GZIP_BUFFER_SIZE),
+                StandardCharsets.UTF_8))) {
+            writeLine(writer, includeCounterpartyInfo ? EXTENDED_REPORT_HEADER : REPORT_HEADER);
+            Iterator<String> lines = csvLines.iterator();
+            if (!lines.hasNext()) {
+                writeLine(writer, includeCounterpartyInfo ? EXTENDED_REPORT_EMPTY_ROW : REPORT_EMPTY_ROW);
+            }
+            while (lines.hasNext()) {
+                writeLine(writer, lines.next());
+            }
+        }
+    }
+
+    // Same line separator as the PrintWriter of the uncompressed reports
+    private static void writeLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write(System.lineSeparator());
+    }
+
     //    public static String generateErrorMessage(Integer partiesNumber, boolean msgSizeMatches, boolean eventCountMatches) {
     //        String errorMessage;
     //        if (partiesNumber != 2) {
@@ -88,4 +136,29 @@ public class ReportUtil {
     public static String getValue(String value) {
         return value == null ? "N/A" : value;
     }
+
+    /**
+     * Wraps a stream that is closed by its owner, such as an upload that commits the object on close. Closing the wrapper, for example by
+     * closing a compressing stream to end its deflater, only flushes the wrapped stream.
+     */
+    public static OutputStream nonClosing(OutputStream outputStream) {
+        return new NonClosingOutputStream(outputStream);
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        private NonClosingOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 }
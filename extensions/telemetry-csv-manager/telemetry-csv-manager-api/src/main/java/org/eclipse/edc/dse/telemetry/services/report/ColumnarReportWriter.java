@@ -0,0 +1,147 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.eclipse.edc.dse.telemetry.repository.ContractStats;
+import org.eclipse.edc.dse.telemetry.services.ReportUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes reports in the Apache Arrow IPC streaming format. Unlike the CSV, the columns are typed and the transfer sizes are
+ * kept in bytes, so that analytics tools can scan single columns without parsing formatted text.
+ */
+final class ColumnarReportWriter {
+
+    static final int BATCH_SIZE = 4096;
+
+    static final String CONTRACT_ID = "contract_id";
+    static final String RESPONSE_STATUS = "data_transfer_response_status";
+    static final String PARTICIPANT_NAME = "participant_name";
+    static final String COUNTERPARTY_NAME = "counterparty_name";
+    static final String TRANSFER_SIZE = "total_transfer_size_in_bytes";
+    static final String EVENT_COUNT = "total_number_of_events";
+    static final String PARTICIPANT_TRANSFER_SIZE = "participant_total_transfer_size_in_bytes";
+    static final String COUNTERPARTY_TRANSFER_SIZE = "counterparty_total_transfer_size_in_bytes";
+    static final String PARTICIPANT_EVENT_COUNT = "participant_total_number_of_events";
+    static final String COUNTERPARTY_EVENT_COUNT = "counterparty_total_number_of_events";
+
+    private static final ArrowType UTF8 = new ArrowType.Utf8();
+    private static final ArrowType INT32 = new ArrowType.Int(32, true);
+    private static final ArrowType INT64 = new ArrowType.Int(64, true);
+
+    static final Schema REPORT_SCHEMA = new Schema(List.of(
+            Field.notNullable(CONTRACT_ID, UTF8),
+            Field.nullable(COUNTERPARTY_NAME, UTF8),
+            Field.nullable(RESPONSE_STATUS, INT32),
+            Field.notNullable(TRANSFER_SIZE, INT64),
+            Field.notNullable(EVENT_COUNT, INT64)));
+
+    static final Schema EXTENDED_REPORT_SCHEMA = new Schema(List.of(
+            Field.notNullable(CONTRACT_ID, UTF8),
+            Field.nullable(RESPONSE_STATUS, INT32),
+            Field.nullable(PARTICIPANT_NAME, UTF8),
+            Field.nullable(COUNTERPARTY_NAME, UTF8),
+            Field.notNullable(PARTICIPANT_TRANSFER_SIZE, INT64),
+            Field.notNullable(COUNTERPARTY_TRANSFER_SIZE, INT64),
+            Field.notNullable(PARTICIPANT_EVENT_COUNT, INT64),
+            Field.notNullable(COUNTERPARTY_EVENT_COUNT, INT64)));
+
+    // Shared by all reports, each report allocates its vectors from a child allocator released once the report is written
+    private static final BufferAllocator ROOT_ALLOCATOR = new RootAllocator();
+
+    private ColumnarReportWriter() {
+    }
+
+    /**
+     * Writes the rows as a stream of record batches of at most {@link #BATCH_SIZE} rows, so the column vectors never hold more than
+     * one batch. Each batch is written to {@code outputStream} as soon as it is filled, the stream is left open.
+     * Empty reports contain only the schema. Missing sizes and counts are written as 0, as in the CSV.
+     */
+    static void write(List<ReportRow> rows, boolean includeCounterpartyInfo, boolean compress, OutputStream outputStream) throws IOException {
+        OutputStream nonClosingStream = ReportUtil.nonClosing(outputStream);
+        try (OutputStream out = compress ? new GZIPOutputStream(nonClosingStream) : nonClosingStream) {
+            write(rows, includeCounterpartyInfo, out);
+        }
+    }
+
+    private static void write(List<ReportRow> rows, boolean includeCounterpartyInfo, OutputStream out) throws IOException {
+        Schema schema = includeCounterpartyInfo ? EXTENDED_REPORT_SCHEMA : REPORT_SCHEMA;
+        try (BufferAllocator allocator = ROOT_ALLOCATOR.newChildAllocator("report", 0, Long.MAX_VALUE);
+             VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, Channels.newChannel(out))) {
+            writer.start();
+            for (int batchStart = 0; batchStart < rows.size(); batchStart += BATCH_SIZE) {
+                List<ReportRow> batch = rows.subList(batchStart, Math.min(batchStart + BATCH_SIZE, rows.size()));
+                root.allocateNew();
+                for (int i = 0; i < batch.size(); i++) {
+                    if (includeCounterpartyInfo) {
+                        setExtendedRow(root, i, batch.get(i));
+                    } else {
+                        setRow(root, i, batch.get(i));
+                    }
+                }
+                root.setRowCount(batch.size());
+                writer.writeBatch();
+            }
+            writer.end();
+        }
+    }
+
+    private static void setRow(VectorSchemaRoot root, int index, ReportRow row) {
+        ContractStats stats = row.stats();
+        setString(root, CONTRACT_ID, index, stats.contractId());
+        setString(root, COUNTERPARTY_NAME, index, row.counterpartyName());
+        setInt(root, RESPONSE_STATUS, index, stats.responseStatus());
+        setLong(root, TRANSFER_SIZE, index, stats.msgSize());
+        setLong(root, EVENT_COUNT, index, stats.eventCount());
+    }
+
+    private static void setExtendedRow(VectorSchemaRoot root, int index, ReportRow row) {
+        ContractStats stats = row.stats();
+        ContractStats counterpartyStats = row.counterpartyStats();
+        setString(root, CONTRACT_ID, index, stats.contractId());
+        setInt(root, RESPONSE_STATUS, index, stats.responseStatus());
+        setString(root, PARTICIPANT_NAME, index, row.participantName());
+        setString(root, COUNTERPARTY_NAME, index, row.counterpartyName());
+        setLong(root, PARTICIPANT_TRANSFER_SIZE, index, stats.msgSize());
+        setLong(root, COUNTERPARTY_TRANSFER_SIZE, index, counterpartyStats.msgSize());
+        setLong(root, PARTICIPANT_EVENT_COUNT, index, stats.eventCount());
+        setLong(root, COUNTERPARTY_EVENT_COUNT, index, counterpartyStats.eventCount());
+    }
+
+    private static void setString(VectorSchemaRoot root, String column, int index, String value) {
+        VarCharVector vector = (VarCharVector) root.getVector(column);
+        if (value == null) {
+            vector.setNull(index);
+        } else {
+            vector.setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void setInt(VectorSchemaRoot root, String column, int index, Integer value) {
+        IntVector vector = (IntVector) root.getVector(column);
+        if (value == null) {
+            vector.setNull(index);
+        } else {
+            vector.setSafe(index, value);
+        }
+    }
+
+    private static void setLong(VectorSchemaRoot root, String column, int index, Long value) {
+        ((BigIntVector) root.getVector(column)).setSafe(index, value != null ? value : 0L);
+    }
+}
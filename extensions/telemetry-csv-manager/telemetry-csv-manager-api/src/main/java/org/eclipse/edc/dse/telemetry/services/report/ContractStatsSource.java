@@ -0,0 +1,19 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+import org.eclipse.edc.dse.telemetry.repository.ContractStats;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides the aggregated telemetry of one month that a report is built from.
+ */
+interface ContractStatsSource {
+
+    List<ContractStats> statsFor(String participantId);
+
+    ContractStats statsFor(String participantId, String contractId, Integer responseStatus);
+
+    Map<String, List<ParticipantId>> contractParties(List<ContractStats> contractStats);
+}
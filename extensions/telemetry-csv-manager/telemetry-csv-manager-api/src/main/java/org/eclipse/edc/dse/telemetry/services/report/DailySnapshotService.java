@@ -0,0 +1,81 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import org.eclipse.edc.dse.telemetry.repository.DailySnapshotRepository;
+import org.eclipse.edc.dse.telemetry.repository.ParticipantContractStats;
+import org.eclipse.edc.dse.telemetry.repository.TelemetryEventRepository;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Aggregates the telemetry events of each closed day into persisted partial results, so that the monthly reports only have to merge
+ * about thirty small partials instead of scanning the whole month.
+ * <p>
+ * Telemetry can still be ingested for a day after its first aggregation. Every run therefore aggregates the last {@value #LATE_EVENT_DAYS}
+ * closed days again, replacing their partial results, and events ingested later than that are not included in the reports. The contract
+ * parties are taken from the partial results as well, over the retained days.
+ */
+class DailySnapshotService {
+
+    static final int LATE_EVENT_DAYS = 3;
+
+    private final Monitor monitor;
+    private final TelemetryEventRepository telemetryEventRepository;
+    private final DailySnapshotRepository dailySnapshotRepository;
+
+    DailySnapshotService(Monitor monitor, TelemetryEventRepository telemetryEventRepository, DailySnapshotRepository dailySnapshotRepository) {
+        this.monitor = monitor;
+        this.telemetryEventRepository = telemetryEventRepository;
+        this.dailySnapshotRepository = dailySnapshotRepository;
+    }
+
+    /**
+     * Aggregates the last {@value #LATE_EVENT_DAYS} days before {@code today}, and every earlier day from {@code from} (inclusive) that has
+     * no snapshot yet.
+     *
+     * @return the number of days aggregated
+     */
+    int aggregateClosedDays(LocalDate from, LocalDate today) {
+        Set<LocalDate> snapshotDays = dailySnapshotRepository.findSnapshotDays(from, today);
+        LocalDate lateEventsFrom = today.minusDays(LATE_EVENT_DAYS);
+        int aggregated = 0;
+        for (LocalDate day = from; day.isBefore(today); day = day.plusDays(1)) {
+            if (!day.isBefore(lateEventsFrom) || !snapshotDays.contains(day)) {
+                aggregateDay(day);
+                aggregated++;
+            }
+        }
+        return aggregated;
+    }
+
+    void aggregateDay(LocalDate day) {
+        List<ParticipantContractStats> stats = telemetryEventRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        dailySnapshotRepository.replaceSnapshot(day, stats);
+        monitor.debug("Aggregated " + stats.size() + " contract stats of " + day);
+    }
+
+    /**
+     * Builds the monthly stats from the daily partials. Like the daily run, the days missed since the start of the month and the last
+     * {@value #LATE_EVENT_DAYS} days are aggregated first, the other days are only merged. For the current month only the days before
+     * {@code today} are included.
+     */
+    MonthlyContractStats loadMonthlyContractStats(LocalDateTime targetDateTime, LocalDate today) {
+        int month = targetDateTime.getMonthValue();
+        int year = targetDateTime.getYear();
+        int aggregated = aggregateClosedDays(LocalDate.of(year, month, 1), today);
+
+        monitor.info("Merging daily snapshots of " + year + "-" + month + " for all participants, " + aggregated + " days aggregated first");
+        return new MonthlyContractStats(
+                dailySnapshotRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(month, year),
+                dailySnapshotRepository.findContractPartiesForMonth(month, year)
+        );
+    }
+
+    void purgeSnapshotsBefore(LocalDate day) {
+        dailySnapshotRepository.deleteSnapshotsBefore(day);
+    }
+}
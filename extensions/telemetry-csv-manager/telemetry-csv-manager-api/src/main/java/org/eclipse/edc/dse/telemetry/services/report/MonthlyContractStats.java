@@ -0,0 +1,55 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+import org.eclipse.edc.dse.telemetry.repository.ContractStats;
+import org.eclipse.edc.dse.telemetry.repository.ParticipantContractStats;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of the single month-wide aggregation, shared by every participant's standard and extended report.
+ * It only holds immutable values once built, so it can be read concurrently by the report generation workers.
+ */
+final class MonthlyContractStats implements ContractStatsSource {
+
+    private final Map<String, List<ContractStats>> statsByParticipant;
+    private final Map<StatsKey, ContractStats> statsByKey;
+    private final Map<String, List<ParticipantId>> contractParties;
+
+    MonthlyContractStats(List<ParticipantContractStats> participantContractStats, Map<String, List<ParticipantId>> contractParties) {
+        Map<String, List<ContractStats>> byParticipant = new HashMap<>();
+        Map<StatsKey, ContractStats> byKey = new HashMap<>(participantContractStats.size());
+        for (ParticipantContractStats stats : participantContractStats) {
+            ContractStats contractStats = stats.toContractStats();
+            byParticipant.computeIfAbsent(stats.participantId(), id -> new ArrayList<>()).add(contractStats);
+            byKey.put(new StatsKey(stats.participantId(), stats.contractId(), stats.responseStatus()), contractStats);
+        }
+        byParticipant.replaceAll((id, stats) -> List.copyOf(stats));
+        contractParties.replaceAll((id, parties) -> List.copyOf(parties));
+
+        this.statsByParticipant = Map.copyOf(byParticipant);
+        this.statsByKey = Map.copyOf(byKey);
+        this.contractParties = Map.copyOf(contractParties);
+    }
+
+    @Override
+    public List<ContractStats> statsFor(String participantId) {
+        return statsByParticipant.getOrDefault(participantId, List.of());
+    }
+
+    @Override
+    public ContractStats statsFor(String participantId, String contractId, Integer responseStatus) {
+        return statsByKey.get(new StatsKey(participantId, contractId, responseStatus));
+    }
+
+    @Override
+    public Map<String, List<ParticipantId>> contractParties(List<ContractStats> contractStats) {
+        return contractParties;
+    }
+
+    private record StatsKey(String participantId, String contractId, Integer responseStatus) {
+    }
+}
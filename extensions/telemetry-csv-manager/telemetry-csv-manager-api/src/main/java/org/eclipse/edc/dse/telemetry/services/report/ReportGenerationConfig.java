@@ -0,0 +1,41 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+/**
+ * Tuning of the monthly report generation run.
+ *
+ * @param maxConcurrentGenerations maximum number of participants whose reports are generated in parallel
+ * @param batchAggregation         whether the month is aggregated once for all participants instead of once per participant and report flavour
+ * @param compressReports          whether reports are stored gzip-compressed instead of as plain CSV
+ * @param incrementalAggregation   whether each closed day is aggregated into persisted partials that are merged at month end
+ * @param maxAttempts              number of runs attempted for a month before failed reports are left for a manual rerun
+ * @param retryDelaySeconds        delay before the first retry of a failed run, doubled for every further retry
+ * @param columnarExport           whether a typed columnar (Arrow IPC stream) file is stored next to every CSV report
+ */
+public record ReportGenerationConfig(int maxConcurrentGenerations, boolean batchAggregation, boolean compressReports, boolean incrementalAggregation,
+                                     int maxAttempts, long retryDelaySeconds, boolean columnarExport) {
+
+    public static final int DEFAULT_MAX_CONCURRENT_GENERATIONS = 4;
+    public static final boolean DEFAULT_BATCH_AGGREGATION = true;
+    public static final boolean DEFAULT_COMPRESS_REPORTS = false;
+    public static final boolean DEFAULT_INCREMENTAL_AGGREGATION = false;
+    public static final int DEFAULT_MAX_ATTEMPTS = 4;
+    public static final long DEFAULT_RETRY_DELAY_SECONDS = 300;
+    public static final boolean DEFAULT_COLUMNAR_EXPORT = false;
+
+    public ReportGenerationConfig {
+        if (maxConcurrentGenerations < 1) {
+            throw new IllegalArgumentException("maxConcurrentGenerations must be at least 1, got: " + maxConcurrentGenerations);
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1, got: " + maxAttempts);
+        }
+        if (retryDelaySeconds < 0) {
+            throw new IllegalArgumentException("retryDelaySeconds cannot be negative, got: " + retryDelaySeconds);
+        }
+    }
+
+    public static ReportGenerationConfig defaults() {
+        return new ReportGenerationConfig(DEFAULT_MAX_CONCURRENT_GENERATIONS, DEFAULT_BATCH_AGGREGATION, DEFAULT_COMPRESS_REPORTS, DEFAULT_INCREMENTAL_AGGREGATION,
+                DEFAULT_MAX_ATTEMPTS, DEFAULT_RETRY_DELAY_SECONDS, DEFAULT_COLUMNAR_EXPORT);
+    }
+}
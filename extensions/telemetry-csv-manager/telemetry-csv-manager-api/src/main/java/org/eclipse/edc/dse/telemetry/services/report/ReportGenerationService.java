@@ -1,7 +1,10 @@
 package org.eclipse.edc.dse.telemetry.services.report;
 
+import com.azure.storage.blob.models.BlobErrorCode;
+import com.azure.storage.blob.models.BlobStorageException;
 import org.eclipse.edc.dse.telemetry.model.ParticipantId;
 import org.eclipse.edc.dse.telemetry.model.Report;
+import org.eclipse.edc.dse.telemetry.model.ReportFlavour;
 import org.eclipse.edc.dse.telemetry.model.TelemetryEvent;
 import org.eclipse.edc.dse.telemetry.repository.ContractStats;
 import org.eclipse.edc.dse.telemetry.repository.ParticipantRepository;
@@ -17,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.eclipse.edc.dse.telemetry.services.ReportUtil.getObjectPath;
 import static org.eclipse.edc.dse.telemetry.services.ReportUtil.getValue;
@@ -33,6 +37,8 @@ public class ReportGenerationService {
     private final TelemetryEventRepository telemetryEventRepository;
     private final AzureStorageService azureStorageService;
     private final Monitor monitor;
+    private final boolean compressReports;
+    private final boolean columnarExport;
 
     // Error report generation was disabled for now since the report already contains the same information
     //
@@ -50,11 +56,22 @@ public class ReportGenerationService {
                                    ReportRepository reportRepository,
                                    TelemetryEventRepository telemetryEventRepository,
                                    AzureStorageService azureStorageService) {
+        this(monitor, participantRepository, reportRepository, telemetryEventRepository, azureStorageService, ReportGenerationConfig.defaults());
+    }
+
+    public ReportGenerationService(Monitor monitor,
+                                   ParticipantRepository participantRepository,
+                                   ReportRepository reportRepository,
+                                   TelemetryEventRepository telemetryEventRepository,
+                                   AzureStorageService azureStorageService,
+                                   ReportGenerationConfig config) {
         this.monitor = monitor;
         this.participantRepository = participantRepository;
         this.reportRepository = reportRepository;
         this.telemetryEventRepository = telemetryEventRepository;
         this.azureStorageService = azureStorageService;
+        this.compressReports = config.compressReports();
+        this.columnarExport = config.columnarExport();
     }
 
     //    public static Queue<ReportGenerationError> getErrors() {
@@ -84,14 +101,47 @@ public class ReportGenerationService {
     //        }
     //    }
 
-    void generatePreviousMonthReportForAllParticipants() {
-        List<ParticipantId> participants = participantRepository.findAll();
-        LocalDateTime oneMonthBeforeDate = LocalDateTime.now().minusMonths(1);
-        for (ParticipantId participant : participants) {
-            // By default the cron task should generate the simplified report and the extended report with counterparty info
-            generateReport(participant, oneMonthBeforeDate, false);
-            generateReport(participant, oneMonthBeforeDate, true);
+    List<String> findAllParticipantIds() {
+        return participantRepository.findAllIds();
+    }
+
+    MonthlyContractStats loadMonthlyContractStats(LocalDateTime targetDateTime) {
+        int month = targetDateTime.getMonthValue();
+        int year = targetDateTime.getYear();
+        monitor.info("Aggregating telemetry events of " + year + "-" + month + " for all participants");
+        return new MonthlyContractStats(
+                telemetryEventRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(month, year),
+                telemetryEventRepository.findContractPartiesForMonth(month, year)
+        );
+    }
+
+    /**
+     * Generates one monthly report of the participant, unless it is already in the storage because a previous run was interrupted
+     * after uploading it. The report record is then restored if it is missing, so that the report stays linked to its participant.
+     */
+    void generateMonthlyReport(ParticipantId participant, LocalDateTime targetDateTime, ReportFlavour flavour, ContractStatsSource statsSource) {
+        boolean includeCounterpartyInfo = flavour.includeCounterpartyInfo();
+        String fileName = ReportUtil.generateReportFileName(participant.getName(), targetDateTime, includeCounterpartyInfo);
+        String path = getObjectPath(targetDateTime, fileName, includeCounterpartyInfo);
+        if (azureStorageService.getProperties(path) == null) {
+            generateReport(participant, targetDateTime, includeCounterpartyInfo, statsSource != null ? statsSource : repositoryStatsSource(targetDateTime));
+            return;
+        }
+
+        boolean recorded = reportRepository.findByParticipantId(participant.getId()).stream()
+                .anyMatch(report -> fileName.equals(report.getCsvName()));
+        if (recorded) {
+            monitor.info("Report " + path + " already generated, skipping");
+            return;
         }
+        monitor.warning("Report " + path + " was uploaded by an interrupted run, restoring its record");
+        Report report = new Report(fileName, azureStorageService.getUrl(path), participant);
+        report.setTelemetryEvents(telemetryEventRepository.findByParticipantIdForMonth(participant.getId(), targetDateTime.getMonthValue(), targetDateTime.getYear()));
+        reportRepository.saveTransactional(report);
+    }
+
+    ParticipantId findParticipantById(String participantId) {
+        return participantRepository.find(participantId);
     }
 
     public void generateParticipantReport(String participantName, LocalDateTime targetDateTime, boolean generateCounterpartyReport) {
@@ -118,9 +168,13 @@ public class ReportGenerationService {
      * to ensure that no new events are added in the meantime. As this is not the case for now, I only wrapped the report saving inside a transaction.
      * */
     public void generateReport(ParticipantId participant, LocalDateTime targetDateTime, boolean includeCounterpartyInfo) {
+        generateReport(participant, targetDateTime, includeCounterpartyInfo, repositoryStatsSource(targetDateTime));
+    }
+
+    void generateReport(ParticipantId participant, LocalDateTime targetDateTime, boolean includeCounterpartyInfo, ContractStatsSource statsSource) {
         try {
             this.monitor.debug("Generating report for participant " + participant.getName());
-            generateCsv(participant, targetDateTime, includeCounterpartyInfo);
+            generateCsv(participant, targetDateTime, includeCounterpartyInfo, statsSource);
             this.monitor.debug("Report generated");
         } catch (Exception e) {
             monitor.severe("Error generating report for participant " + participant.getName() + ": " + e.getMessage(), e);
@@ -128,20 +182,29 @@ public class ReportGenerationService {
         }
     }
 
-    void generateCsv(ParticipantId participant, LocalDateTime targetDateTime, boolean includeCounterpartyInfo) {
+    void generateCsv(ParticipantId participant, LocalDateTime targetDateTime, boolean includeCounterpartyInfo, ContractStatsSource statsSource) {
         monitor.info("Generating csv for participant " + participant.getName());
-        int month = targetDateTime.getMonthValue();
-        int year = targetDateTime.getYear();
 
-        List<ContractStats> contractStats = telemetryEventRepository.findStatsGroupedByContractIdAndStatusCode(participant.getId(), month, year);
-        List<String> csvLines = collectCsvEntryInfo(participant, contractStats, month, year, includeCounterpartyInfo);
+        List<ContractStats> contractStats = statsSource.statsFor(participant.getId());
+        List<ReportRow> rows = collectReportRows(participant, contractStats, statsSource, includeCounterpartyInfo);
 
         List<TelemetryEvent> events = telemetryEventRepository.findByParticipantIdForMonth(participant.getId(), targetDateTime.getMonthValue(), targetDateTime.getYear());
-        String csvContent = ReportUtil.generateCsvReportContent(csvLines, includeCounterpartyInfo);
         String fileName = ReportUtil.generateReportFileName(participant.getName(), targetDateTime, includeCounterpartyInfo);
         String path = getObjectPath(targetDateTime, fileName, includeCounterpartyInfo);
+        if (columnarExport) {
+            // Uploaded before the CSV, whose presence marks the report as generated when an interrupted run is resumed
+            uploadColumnarReport(rows, targetDateTime, fileName, includeCounterpartyInfo);
+        }
         monitor.debug("Uploading report to path " + path);
-        String objectUrl = azureStorageService.upload(path, csvContent.getBytes(StandardCharsets.UTF_8));
+        String objectUrl;
+        if (compressReports) {
+            // Compressed as it is uploaded, the report rows are only formatted as they are written
+            objectUrl = azureStorageService.upload(path, outputStream -> ReportUtil.writeCompressedCsvReport(outputStream,
+                    csvLines(rows, includeCounterpartyInfo), includeCounterpartyInfo), ReportUtil.CSV_CONTENT_TYPE, ReportUtil.GZIP_ENCODING);
+        } else {
+            String csvContent = ReportUtil.generateCsvReportContent(csvLines(rows, includeCounterpartyInfo).toList(), includeCounterpartyInfo);
+            objectUrl = azureStorageService.upload(path, csvContent.getBytes(StandardCharsets.UTF_8));
+        }
         monitor.debug("Report uploaded to " + objectUrl);
         // We should implement a retry mechanism here FDPT-84156
         if (objectUrl != null) {
@@ -152,18 +215,56 @@ public class ReportGenerationService {
         }
     }
 
-    private List<String> collectCsvEntryInfo(ParticipantId participant, List<ContractStats> contractStats, int month, int year, boolean includeCounterpartyInfo) {
+    private void uploadColumnarReport(List<ReportRow> rows, LocalDateTime targetDateTime, String csvFileName, boolean includeCounterpartyInfo) {
+        String path = getObjectPath(targetDateTime, ReportUtil.toColumnarFileName(csvFileName), includeCounterpartyInfo);
+        try {
+            // Record batches are uploaded as they are written, only one batch is held in the column vectors
+            azureStorageService.upload(path, outputStream -> ColumnarReportWriter.write(rows, includeCounterpartyInfo, compressReports, outputStream),
+                    ReportUtil.COLUMNAR_CONTENT_TYPE, compressReports ? ReportUtil.GZIP_ENCODING : null);
+            monitor.debug("Columnar report uploaded to path " + path);
+        } catch (BlobStorageException e) {
+            // Left by a run that failed after this upload, the content is the same since it is built from the same closed month
+            if (e.getErrorCode() != BlobErrorCode.BLOB_ALREADY_EXISTS) {
+                throw e;
+            }
+            monitor.info("Columnar report " + path + " already uploaded, skipping");
+        }
+    }
+
+    // Queries the repository per participant, used when a report is generated on its own
+    private ContractStatsSource repositoryStatsSource(LocalDateTime targetDateTime) {
+        int month = targetDateTime.getMonthValue();
+        int year = targetDateTime.getYear();
+        return new ContractStatsSource() {
+            @Override
+            public List<ContractStats> statsFor(String participantId) {
+                return telemetryEventRepository.findStatsGroupedByContractIdAndStatusCode(participantId, month, year);
+            }
+
+            @Override
+            public ContractStats statsFor(String participantId, String contractId, Integer responseStatus) {
+                return telemetryEventRepository.findStatsForContractIdAndStatusCodeGroupedByContractIdAndStatusCode(participantId, month, year, contractId, responseStatus);
+            }
+
+            @Override
+            public Map<String, List<ParticipantId>> contractParties(List<ContractStats> contractStats) {
+                return fetchContractPartiesMap(contractStats);
+            }
+        };
+    }
+
+    private List<ReportRow> collectReportRows(ParticipantId participant, List<ContractStats> contractStats, ContractStatsSource statsSource, boolean includeCounterpartyInfo) {
         monitor.debug(() -> String.format("Building report for participant %s %s counterparty info", participant.getName(), includeCounterpartyInfo ? "with" : "without"));
 
+        Map<String, List<ParticipantId>> contractPartiesMap = statsSource.contractParties(contractStats);
         return includeCounterpartyInfo
-                ? buildExtendedReportCsv(participant, contractStats, month, year)
-                : buildReportCsv(participant, contractStats);
+                ? buildExtendedReportRows(participant, contractStats, contractPartiesMap, statsSource)
+                : buildReportRows(participant, contractStats, contractPartiesMap);
     }
 
-    private List<String> buildExtendedReportCsv(ParticipantId participant, List<ContractStats> contractStats, int month, int year) {
-        Map<String, List<ParticipantId>> contractPartiesMap = fetchContractPartiesMap(contractStats);
-
-        List<String> csvLines = new ArrayList<>(contractStats.size());
+    private List<ReportRow> buildExtendedReportRows(ParticipantId participant, List<ContractStats> contractStats, Map<String, List<ParticipantId>> contractPartiesMap,
+                                                    ContractStatsSource statsSource) {
+        List<ReportRow> rows = new ArrayList<>(contractStats.size());
 
         for (ContractStats contractStat : contractStats) {
             String contractId = contractStat.contractId();
@@ -171,14 +272,13 @@ public class ReportGenerationService {
 
             CounterpartyInfo counterpartyInfo = extractCounterpartyInfo(participant, contractParties, contractId);
             ContractStats counterPartyContractStats = fetchCounterpartyStats(
+                    statsSource,
                     counterpartyInfo.id(),
-                    month,
-                    year,
                     contractId,
                     contractStat.responseStatus()
             );
 
-            csvLines.add(buildExtendedCsvEntryRow(
+            rows.add(new ReportRow(
                     contractStat,
                     participant.getName(),
                     counterpartyInfo.name(),
@@ -186,23 +286,21 @@ public class ReportGenerationService {
             ));
         }
 
-        return csvLines;
+        return rows;
     }
 
-    private List<String> buildReportCsv(ParticipantId participant, List<ContractStats> contractStats) {
-        Map<String, List<ParticipantId>> contractPartiesMap = fetchContractPartiesMap(contractStats);
-
-        List<String> csvLines = new ArrayList<>(contractStats.size());
+    private List<ReportRow> buildReportRows(ParticipantId participant, List<ContractStats> contractStats, Map<String, List<ParticipantId>> contractPartiesMap) {
+        List<ReportRow> rows = new ArrayList<>(contractStats.size());
 
         for (ContractStats contractStat : contractStats) {
             String contractId = contractStat.contractId();
             List<ParticipantId> contractParties = contractPartiesMap.getOrDefault(contractId, List.of());
 
             CounterpartyInfo counterpartyInfo = extractCounterpartyInfo(participant, contractParties, contractId);
-            csvLines.add(buildCsvEntryRow(contractStat, counterpartyInfo.name()));
+            rows.add(new ReportRow(contractStat, null, counterpartyInfo.name(), null));
         }
 
-        return csvLines;
+        return rows;
     }
 
     private Map<String, List<ParticipantId>> fetchContractPartiesMap(List<ContractStats> contractStats) {
@@ -231,21 +329,15 @@ public class ReportGenerationService {
                 : contractParties.get(0);
     }
 
-    private ContractStats fetchCounterpartyStats(String counterpartyId, int month, int year, String contractId, Integer responseStatus) {
+    private ContractStats fetchCounterpartyStats(ContractStatsSource statsSource, String counterpartyId, String contractId, Integer responseStatus) {
         if (counterpartyId == null) {
             return createEmptyStats(contractId);
         }
 
-        ContractStats stats = telemetryEventRepository.findStatsForContractIdAndStatusCodeGroupedByContractIdAndStatusCode(
-                counterpartyId,
-                month,
-                year,
-                contractId,
-                responseStatus
-        );
+        ContractStats stats = statsSource.statsFor(counterpartyId, contractId, responseStatus);
 
         if (stats == null) {
-            monitor.warning(() -> String.format("No data found for counterparty %s, contract %s, month %d, year %d", counterpartyId, contractId, month, year));
+            monitor.warning(() -> String.format("No data found for counterparty %s, contract %s, status %d", counterpartyId, contractId, responseStatus));
             return createEmptyStats(contractId);
         }
 
@@ -257,12 +349,18 @@ public class ReportGenerationService {
     }
 
 
-    private static String buildExtendedCsvEntryRow(ContractStats contractStat, String participantName, String counterpartyName, ContractStats counterPartyContractStats) {
+    private static Stream<String> csvLines(List<ReportRow> rows, boolean includeCounterpartyInfo) {
+        return rows.stream().map(includeCounterpartyInfo ? ReportGenerationService::buildExtendedCsvEntryRow : ReportGenerationService::buildCsvEntryRow);
+    }
+
+    private static String buildExtendedCsvEntryRow(ReportRow row) {
+        ContractStats contractStat = row.stats();
+        ContractStats counterPartyContractStats = row.counterpartyStats();
         return String.join(",",
                 getValue(contractStat.contractId()),
                 getValue(contractStat.responseStatus()),
-                getValue(participantName),
-                getValue(counterpartyName),
+                getValue(row.participantName()),
+                getValue(row.counterpartyName()),
                 getMsgSizeValue(contractStat),
                 getMsgSizeValue(counterPartyContractStats),
                 getEventCountValue(contractStat),
@@ -270,10 +368,11 @@ public class ReportGenerationService {
         );
     }
 
-    private static String buildCsvEntryRow(ContractStats contractStat, String counterpartyName) {
+    private static String buildCsvEntryRow(ReportRow row) {
+        ContractStats contractStat = row.stats();
         return String.join(",",
                 getValue(contractStat.contractId()),
-                getValue(counterpartyName),
+                getValue(row.counterpartyName()),
                 getValue(contractStat.responseStatus()),
                 getMsgSizeValue(contractStat),
                 getEventCountValue(contractStat)
@@ -1,8 +1,14 @@
 package org.eclipse.edc.dse.telemetry.services.report;
 
 import jakarta.persistence.EntityManager;
+import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+import org.eclipse.edc.dse.telemetry.model.ReportFlavour;
+import org.eclipse.edc.dse.telemetry.model.ReportJob;
+import org.eclipse.edc.dse.telemetry.model.ReportJobStatus;
+import org.eclipse.edc.dse.telemetry.repository.DailySnapshotRepository;
 import org.eclipse.edc.dse.telemetry.repository.JpaUtil;
 import org.eclipse.edc.dse.telemetry.repository.ParticipantRepository;
+import org.eclipse.edc.dse.telemetry.repository.ReportJobRepository;
 import org.eclipse.edc.dse.telemetry.repository.ReportRepository;
 import org.eclipse.edc.dse.telemetry.repository.TelemetryEventRepository;
 import org.eclipse.edc.dse.telemetry.services.storage.AzureStorageService;
@@ -11,11 +17,20 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public class ReportGeneratorScheduler {
 
@@ -23,17 +38,34 @@ public class ReportGeneratorScheduler {
     private final AzureStorageService azureStorageService;
     private final ScheduledExecutorService executor;
     private final Clock clock;
+    private final ReportGenerationConfig config;
+    private final Supplier<EntityManager> entityManagerSupplier;
 
     public ReportGeneratorScheduler(Monitor monitor, AzureStorageService azureStorageService, Clock clock) {
+        this(monitor, azureStorageService, clock, ReportGenerationConfig.defaults());
+    }
+
+    public ReportGeneratorScheduler(Monitor monitor, AzureStorageService azureStorageService, Clock clock, ReportGenerationConfig config) {
+        this(monitor, azureStorageService, clock, config, JpaUtil::createEntityManager);
+    }
+
+    ReportGeneratorScheduler(Monitor monitor, AzureStorageService azureStorageService, Clock clock, ReportGenerationConfig config,
+                             Supplier<EntityManager> entityManagerSupplier) {
         this.monitor = monitor;
         this.azureStorageService = azureStorageService;
         this.executor = Executors.newSingleThreadScheduledExecutor();
         this.clock = clock;
+        this.config = config;
+        this.entityManagerSupplier = entityManagerSupplier;
     }
 
     public void start() {
         monitor.info("Starting report generation job at " + Instant.now());
         scheduleNextMonthlyRun();
+        this.executor.execute(this::resumeIncompleteRun);
+        if (this.config.incrementalAggregation()) {
+            scheduleNextDailyRun();
+        }
         monitor.info("Finished report generation job at " + Instant.now());
     }
 
@@ -55,43 +87,262 @@ public class ReportGeneratorScheduler {
     // Report generation always runs on 2nd day of each month at 02:00 AM
     long computeDelayUntilNextMonthlyRun() {
         ZonedDateTime now = ZonedDateTime.now(this.clock);
-        ZonedDateTime nextRun = now.withDayOfMonth(2)
+        ZonedDateTime nextRun = monthlyRunOf(now);
+
+        if (!nextRun.isAfter(now)) {
+            nextRun = nextRun.plusMonths(1);
+        }
+
+        return Duration.between(now, nextRun).getSeconds();
+    }
+
+    private static ZonedDateTime monthlyRunOf(ZonedDateTime dateTime) {
+        return dateTime.withDayOfMonth(2)
                 .withHour(2)
                 .withMinute(0)
                 .withSecond(0)
                 .withNano(0);
+    }
+
+    // A run interrupted by a restart would otherwise only be retried a month later
+    void resumeIncompleteRun() {
+        try {
+            ZonedDateTime now = ZonedDateTime.now(this.clock);
+            ZonedDateTime lastRun = monthlyRunOf(now);
+            if (lastRun.isAfter(now)) {
+                lastRun = lastRun.minusMonths(1);
+            }
+            LocalDateTime targetDateTime = lastRun.toLocalDateTime().minusMonths(1);
+            if (hasIncompleteReports(targetDateTime)) {
+                this.monitor.info("Reports of " + YearMonth.from(targetDateTime) + " are incomplete, resuming their generation");
+                runGeneration(targetDateTime, 1);
+            }
+        } catch (Exception e) {
+            this.monitor.severe("[Report Scheduler] Could not check for an incomplete report generation run", e);
+        }
+    }
+
+    private boolean hasIncompleteReports(LocalDateTime targetDateTime) {
+        EntityManager em = this.entityManagerSupplier.get();
+        try {
+            long expected = (long) buildGenerationService(em).findAllParticipantIds().size() * ReportFlavour.values().length;
+            long completed = new ReportJobRepository(em).countByReportMonthAndStatus(targetDateTime.toLocalDate(), ReportJobStatus.COMPLETED);
+            return completed < expected;
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    void scheduleNextDailyRun() {
+        long delaySeconds = computeDelayUntilNextDailyRun();
+
+        this.executor.schedule(() -> {
+            try {
+                triggerDailySnapshot();
+            } catch (Exception e) {
+                this.monitor.severe("[Report Scheduler] Daily snapshot failed!\n" + e.getMessage());
+            } finally {
+                scheduleNextDailyRun();
+            }
+        }, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    // Daily snapshots run every day at 01:00 AM, so that on the 2nd the previous month is complete before the monthly run
+    long computeDelayUntilNextDailyRun() {
+        ZonedDateTime now = ZonedDateTime.now(this.clock);
+        ZonedDateTime nextRun = now.withHour(1)
+                .withMinute(0)
+                .withSecond(0)
+                .withNano(0);
 
         if (!nextRun.isAfter(now)) {
-            nextRun = nextRun.plusMonths(1);
+            nextRun = nextRun.plusDays(1);
         }
 
         return Duration.between(now, nextRun).getSeconds();
     }
 
+    // The most recent days are aggregated again for late events and days missed while the connector was down are caught up,
+    // snapshots older than the previous month are no longer needed
+    void triggerDailySnapshot() {
+        LocalDate today = LocalDate.now(this.clock);
+        LocalDate retainedFrom = today.minusMonths(1).withDayOfMonth(1);
+        EntityManager em = this.entityManagerSupplier.get();
+        try {
+            DailySnapshotService service = buildSnapshotService(em);
+            service.purgeSnapshotsBefore(retainedFrom);
+            int aggregated = service.aggregateClosedDays(retainedFrom, today);
+            this.monitor.info("Daily snapshot finished, " + aggregated + " days aggregated");
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
     void triggerGeneration() {
-        // The entity manager is not thread-safe, so we create a new one for each execution
+        runGeneration(LocalDateTime.now(this.clock).minusMonths(1), 1);
+    }
+
+    // Every report is checkpointed in the job table, so a retry only regenerates the reports that are not completed yet
+    void runGeneration(LocalDateTime targetDateTime, int attempt) {
+        boolean succeeded;
+        try {
+            succeeded = generateReports(targetDateTime) == 0;
+        } catch (Exception e) {
+            this.monitor.severe("[Report Scheduler] Report generation of " + YearMonth.from(targetDateTime) + " failed", e);
+            succeeded = false;
+        }
+        if (!succeeded) {
+            scheduleRetry(targetDateTime, attempt);
+        }
+    }
+
+    private void scheduleRetry(LocalDateTime targetDateTime, int attempt) {
+        YearMonth month = YearMonth.from(targetDateTime);
+        if (attempt >= this.config.maxAttempts()) {
+            this.monitor.severe("[Report Scheduler] Reports of " + month + " still incomplete after " + attempt + " attempts, a manual rerun is required");
+            return;
+        }
+
+        long delaySeconds = this.config.retryDelaySeconds() * (1L << Math.min(attempt - 1, 20));
+        this.monitor.warning("Reports of " + month + " incomplete, retrying in " + delaySeconds + " seconds (attempt " + (attempt + 1) + " of " + this.config.maxAttempts() + ")");
+        try {
+            this.executor.schedule(() -> runGeneration(targetDateTime, attempt + 1), delaySeconds, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            this.monitor.warning("Scheduler stopped, reports of " + month + " will be resumed on the next start");
+        }
+    }
+
+    private int generateReports(LocalDateTime targetDateTime) {
+        // The entity manager is not thread-safe, so every participant gets its own one on its worker thread
         // The manager should not be shared between threads otherwise we could get ConcurrentModificationException for example
-        // Also, it holds persistence context (first-level cache of every entity we ever touched), so if we keep it open for too long,
-        // we could run out of memory
+        // Also, it holds persistence context (first-level cache of every entity we ever touched), so keeping it scoped to a single
+        // participant prevents the context from growing with the number of participants
         this.monitor.info("Triggering report generation job at " + ZonedDateTime.now(this.clock));
-        EntityManager em = JpaUtil.createEntityManager();
-        ReportGenerationService service = buildGenerationService(em);
+        GenerationRun run = prepareRun(targetDateTime);
+        List<String> participantIds = run.participantIds();
+        ContractStatsSource monthlyStats = run.monthlyStats();
+        if (participantIds.isEmpty()) {
+            this.monitor.info("No participants found, skipping report generation");
+            return 0;
+        }
+
+        int poolSize = Math.min(this.config.maxConcurrentGenerations(), participantIds.size());
+        ExecutorService workers = Executors.newFixedThreadPool(poolSize);
         try {
-            service.generatePreviousMonthReportForAllParticipants();
-        } catch (Exception e) {
-            this.monitor.severe("Error running report scheduler", e);
-            throw e;
+            List<Future<?>> tasks = new ArrayList<>(participantIds.size());
+            for (String participantId : participantIds) {
+                tasks.add(workers.submit(() -> generateMonthlyReports(participantId, targetDateTime, monthlyStats)));
+            }
+
+            int failures = awaitGenerations(participantIds, tasks);
+            this.monitor.info(String.format("Report generation finished for %d participants, %d failed", participantIds.size(), failures));
+            logPoolMetrics();
+            return failures;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void logPoolMetrics() {
+        JpaUtil.PoolMetrics metrics = JpaUtil.poolMetrics();
+        if (metrics != null) {
+            this.monitor.info("Datasource pool after report generation: " + metrics);
+        }
+    }
+
+    // In batch mode the whole month is aggregated once here and the result is shared (read-only) by all workers,
+    // otherwise the monthly stats are null and every worker queries the stats of its own participant.
+    // In incremental mode the month is merged from the daily snapshots instead of being aggregated from the events.
+    private GenerationRun prepareRun(LocalDateTime targetDateTime) {
+        EntityManager em = this.entityManagerSupplier.get();
+        try {
+            ReportGenerationService service = buildGenerationService(em);
+            List<String> participantIds = service.findAllParticipantIds();
+            if (participantIds.isEmpty()) {
+                return new GenerationRun(participantIds, null);
+            }
+            if (this.config.incrementalAggregation()) {
+                return new GenerationRun(participantIds, buildSnapshotService(em).loadMonthlyContractStats(targetDateTime, LocalDate.now(this.clock)));
+            }
+            if (!this.config.batchAggregation()) {
+                return new GenerationRun(participantIds, null);
+            }
+            return new GenerationRun(participantIds, service.loadMonthlyContractStats(targetDateTime));
         } finally {
-            //service.generateErrorReport(LocalDateTime.now(), ReportGenerationService.getErrors());
             if (em.isOpen()) {
                 em.close();
             }
         }
     }
 
+    // A failure only affects the report it happened for, the remaining reports are still generated.
+    // Reports whose job is already completed are skipped, so that reruns of the month only cost the missing work
+    private void generateMonthlyReports(String participantId, LocalDateTime targetDateTime, ContractStatsSource monthlyStats) {
+        EntityManager em = this.entityManagerSupplier.get();
+        try {
+            ReportGenerationService service = buildGenerationService(em);
+            ParticipantId participant = service.findParticipantById(participantId);
+            if (participant == null) {
+                this.monitor.warning("Participant not found, skipping monthly report generation: " + participantId);
+                return;
+            }
+
+            ReportJobRepository jobRepository = new ReportJobRepository(em);
+            LocalDate reportMonth = targetDateTime.toLocalDate();
+            RuntimeException failure = null;
+            for (ReportFlavour flavour : ReportFlavour.values()) {
+                ReportJob job = jobRepository.findJob(reportMonth, participantId, flavour);
+                if (job != null && job.isCompleted()) {
+                    continue;
+                }
+
+                job = jobRepository.startJob(reportMonth, participantId, flavour);
+                try {
+                    service.generateMonthlyReport(participant, targetDateTime, flavour, monthlyStats);
+                    jobRepository.completeJob(job);
+                } catch (RuntimeException e) {
+                    jobRepository.failJob(job, e.getMessage());
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    private int awaitGenerations(List<String> participantIds, List<Future<?>> tasks) {
+        int failures = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                tasks.get(i).get();
+            } catch (ExecutionException e) {
+                failures++;
+                this.monitor.severe("Report generation failed for participant " + participantIds.get(i), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.monitor.severe("Report generation interrupted, " + (tasks.size() - i) + " participants not awaited");
+                return failures + tasks.size() - i;
+            }
+        }
+        return failures;
+    }
+
     public boolean checkParticipantExists(String participantName) {
         this.monitor.debug("Checking participant " + participantName + " exists");
-        EntityManager em = JpaUtil.createEntityManager();
+        EntityManager em = this.entityManagerSupplier.get();
         try {
             ReportGenerationService service = buildGenerationService(em);
             return service.findParticipant(participantName) != null;
@@ -107,7 +358,7 @@ public class ReportGeneratorScheduler {
 
     public void triggerGenerationForParticipant(String participantName, LocalDateTime reportDateTime, Boolean generateCounterpartyReport) {
         this.monitor.info("Triggering report generation job at " + ZonedDateTime.now(this.clock));
-        EntityManager em = JpaUtil.createEntityManager();
+        EntityManager em = this.entityManagerSupplier.get();
         ReportGenerationService service = buildGenerationService(em);
         try {
             service.generateParticipantReport(participantName, reportDateTime, generateCounterpartyReport);
@@ -126,11 +377,18 @@ public class ReportGeneratorScheduler {
         ParticipantRepository participantRepository = new ParticipantRepository(em);
         ReportRepository reportRepository = new ReportRepository(em);
         TelemetryEventRepository telemetryEventRepository = new TelemetryEventRepository(em);
-        return new ReportGenerationService(this.monitor, participantRepository, reportRepository, telemetryEventRepository, this.azureStorageService);
+        return new ReportGenerationService(this.monitor, participantRepository, reportRepository, telemetryEventRepository, this.azureStorageService, this.config);
+    }
+
+    private DailySnapshotService buildSnapshotService(EntityManager em) {
+        return new DailySnapshotService(this.monitor, new TelemetryEventRepository(em), new DailySnapshotRepository(em));
     }
 
     public void stop() {
         this.monitor.info("Stopping ReportGeneratorScheduler...");
         this.executor.shutdown();
     }
+
+    private record GenerationRun(List<String> participantIds, ContractStatsSource monthlyStats) {
+    }
 }
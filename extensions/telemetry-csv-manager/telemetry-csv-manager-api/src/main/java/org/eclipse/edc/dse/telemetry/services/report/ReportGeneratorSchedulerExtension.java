@@ -1,7 +1,9 @@
 package org.eclipse.edc.dse.telemetry.services.report;
 
+import org.eclipse.edc.dse.telemetry.repository.JpaPoolConfig;
 import org.eclipse.edc.dse.telemetry.repository.JpaUtil;
 import org.eclipse.edc.dse.telemetry.services.storage.AzureStorageService;
+import org.eclipse.edc.dse.telemetry.services.storage.CachingStorageService;
 import org.eclipse.edc.dse.telemetry.services.storage.StorageServiceFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -10,12 +12,14 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.nio.file.Path;
 import java.time.Clock;
 
 @Extension(value = "Report Generator Scheduler Extension")
 public class ReportGeneratorSchedulerExtension implements ServiceExtension {
 
     public static final String PERSISTENCE_UNIT_NAME = "myPU";
+    public static final long DEFAULT_REPORT_CACHE_MAX_SIZE_MB = 256;
 
     @Setting(description = "Datasource Default Url", key = "edc.datasource.default.url")
     public String datasourceDefaultUrl;
@@ -26,6 +30,22 @@ public class ReportGeneratorSchedulerExtension implements ServiceExtension {
     @Setting(description = "Datasource Default Password", key = "edc.datasource.default.password")
     public String datasourceDefaultPassword;
 
+    @Setting(description = "Maximum number of pooled database connections",
+            defaultValue = JpaPoolConfig.DEFAULT_MAX_POOL_SIZE + "", key = "report.datasource.pool.max.size", required = false)
+    public int datasourcePoolMaxSize;
+
+    @Setting(description = "Minimum number of idle database connections kept in the pool",
+            defaultValue = JpaPoolConfig.DEFAULT_MIN_IDLE + "", key = "report.datasource.pool.min.idle", required = false)
+    public int datasourcePoolMinIdle;
+
+    @Setting(description = "Maximum time in milliseconds to wait for a pooled database connection",
+            defaultValue = JpaPoolConfig.DEFAULT_CONNECTION_TIMEOUT_MS + "", key = "report.datasource.pool.connection.timeout.ms", required = false)
+    public long datasourcePoolConnectionTimeoutMs;
+
+    @Setting(description = "Number of rows fetched from the database per round trip by the report queries",
+            defaultValue = JpaPoolConfig.DEFAULT_FETCH_SIZE + "", key = "report.query.fetch.size", required = false)
+    public int queryFetchSize;
+
     @Setting(defaultValue = "azurite", description = "Blob Storage Type", key = "storage.type")
     public String blobStorageType;
 
@@ -50,6 +70,41 @@ public class ReportGeneratorSchedulerExtension implements ServiceExtension {
     @Setting(description = "Azure Storage Endpoint", key = "azure.storage.endpoint", required = false)
     public String azureStorageEndpoint;
 
+    @Setting(description = "Maximum number of participants whose monthly reports are generated concurrently",
+            defaultValue = ReportGenerationConfig.DEFAULT_MAX_CONCURRENT_GENERATIONS + "", key = "report.generation.max.concurrency", required = false)
+    public int maxConcurrentGenerations;
+
+    @Setting(description = "Aggregate the month once for all participants instead of once per participant and report flavour",
+            defaultValue = ReportGenerationConfig.DEFAULT_BATCH_AGGREGATION + "", key = "report.generation.batch.enabled", required = false)
+    public boolean batchAggregation;
+
+    @Setting(description = "Store reports gzip-compressed, clients that do not accept gzip receive them decompressed",
+            defaultValue = ReportGenerationConfig.DEFAULT_COMPRESS_REPORTS + "", key = "report.compression.enabled", required = false)
+    public boolean compressReports;
+
+    @Setting(description = "Store a typed columnar file (Apache Arrow IPC stream) next to every CSV report",
+            defaultValue = ReportGenerationConfig.DEFAULT_COLUMNAR_EXPORT + "", key = "report.columnar.enabled", required = false)
+    public boolean columnarExport;
+
+    @Setting(description = "Aggregate each closed day into persisted partial results that are merged when the monthly reports are generated",
+            defaultValue = ReportGenerationConfig.DEFAULT_INCREMENTAL_AGGREGATION + "", key = "report.generation.incremental.enabled", required = false)
+    public boolean incrementalAggregation;
+
+    @Setting(description = "Number of runs attempted for a month before the failed reports are left for a manual rerun",
+            defaultValue = ReportGenerationConfig.DEFAULT_MAX_ATTEMPTS + "", key = "report.generation.retry.max.attempts", required = false)
+    public int maxAttempts;
+
+    @Setting(description = "Delay in seconds before retrying a run with failed reports, doubled for every further retry",
+            defaultValue = ReportGenerationConfig.DEFAULT_RETRY_DELAY_SECONDS + "", key = "report.generation.retry.delay.seconds", required = false)
+    public long retryDelaySeconds;
+
+    @Setting(description = "Maximum size in megabytes of the local report cache, 0 disables the cache",
+            defaultValue = DEFAULT_REPORT_CACHE_MAX_SIZE_MB + "", key = "report.cache.max.size.mb", required = false)
+    public long reportCacheMaxSizeMb;
+
+    @Setting(description = "Directory of the local report cache, defaults to the system temporary directory", key = "report.cache.directory", required = false)
+    public String reportCacheDirectory;
+
     @Inject
     private Monitor monitor;
 
@@ -63,11 +118,25 @@ public class ReportGeneratorSchedulerExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         monitor = context.getMonitor();
         monitor.info("Initializing Report Generator Scheduler Extension...");
-        azureStorageService = StorageServiceFactory.create(monitor, blobStorageType, azuriteConnectionString, azuriteStorageContainer,
+        AzureStorageService storageService = StorageServiceFactory.create(monitor, blobStorageType, azuriteConnectionString, azuriteStorageContainer,
                 azureClientId, azureClientSecret, azureTenantId, azureStorageContainer, azureStorageEndpoint);
-        JpaUtil.init(PERSISTENCE_UNIT_NAME, datasourceDefaultUrl, datasourceDefaultUser, datasourceDefaultPassword);
+        azureStorageService = storageService;
+        if (reportCacheMaxSizeMb > 0) {
+            Path cacheDirectory = Path.of(reportCacheDirectory != null ? reportCacheDirectory : System.getProperty("java.io.tmpdir"), "report-cache");
+            azureStorageService = new CachingStorageService(monitor, storageService, cacheDirectory, reportCacheMaxSizeMb * 1024 * 1024);
+        }
+        // Every concurrent generation holds a connection, plus one for the run preparation and the API requests
+        if (datasourcePoolMaxSize <= maxConcurrentGenerations) {
+            monitor.warning(String.format("Datasource pool size %d does not exceed the report generation concurrency %d, generations will wait for connections",
+                    datasourcePoolMaxSize, maxConcurrentGenerations));
+        }
+        JpaUtil.init(PERSISTENCE_UNIT_NAME, datasourceDefaultUrl, datasourceDefaultUser, datasourceDefaultPassword,
+                new JpaPoolConfig(datasourcePoolMaxSize, datasourcePoolMinIdle, datasourcePoolConnectionTimeoutMs, queryFetchSize));
 
-        scheduler = new ReportGeneratorScheduler(monitor, azureStorageService, Clock.systemDefaultZone());
+        // Uploads go through the download cache so that a regenerated report replaces its local copy, existence checks never fill it
+        scheduler = new ReportGeneratorScheduler(monitor, azureStorageService, Clock.systemDefaultZone(),
+                new ReportGenerationConfig(maxConcurrentGenerations, batchAggregation, compressReports, incrementalAggregation,
+                        maxAttempts, retryDelaySeconds, columnarExport));
         scheduler.start();
     }
 
@@ -77,5 +146,8 @@ public class ReportGeneratorSchedulerExtension implements ServiceExtension {
             scheduler.stop();
         }
         JpaUtil.shutdown();
+        if (azureStorageService instanceof CachingStorageService cachingStorageService) {
+            cachingStorageService.clear();
+        }
     }
 }
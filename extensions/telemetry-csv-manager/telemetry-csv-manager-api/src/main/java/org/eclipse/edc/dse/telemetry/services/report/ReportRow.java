@@ -0,0 +1,10 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import org.eclipse.edc.dse.telemetry.repository.ContractStats;
+
+/**
+ * One line of a report, kept typed until it is written in the CSV or the columnar format.
+ * The participant name and the counterparty stats are only set for extended reports.
+ */
+record ReportRow(ContractStats stats, String participantName, String counterpartyName, ContractStats counterpartyStats) {
+}
@@ -2,12 +2,24 @@ package org.eclipse.edc.dse.telemetry.services.storage;
 
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.options.BlockBlobOutputStreamOptions;
+import com.azure.storage.blob.specialized.BlobOutputStream;
+import com.azure.storage.blob.specialized.BlockBlobClient;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 public abstract class AzureStorageService {
+    private static final int HTTP_NOT_FOUND = 404;
+
     BlobContainerClient serviceClient;
 
     protected AzureStorageService() {
@@ -23,9 +35,71 @@ public abstract class AzureStorageService {
         }
     }
 
+    /**
+     * Uploads the content written by {@code content} as it is written, in blocks, so that the object is never held whole in memory.
+     * The object is only committed once {@code content} returns, a failure while writing leaves no object behind. Existing objects
+     * are never overwritten.
+     */
+    public String upload(String path, ContentWriter content, String contentType, String contentEncoding) {
+        BlockBlobClient blobClient = getContainer().getBlobClient(path).getBlockBlobClient();
+        BlockBlobOutputStreamOptions options = new BlockBlobOutputStreamOptions()
+                .setHeaders(new BlobHttpHeaders().setContentType(contentType).setContentEncoding(contentEncoding))
+                .setRequestConditions(new BlobRequestConditions().setIfNoneMatch("*"));
+        try {
+            BlobOutputStream outputStream = blobClient.getBlobOutputStream(options);
+            // Only closed on success, closing commits the blocks written so far
+            content.writeTo(outputStream);
+            outputStream.close();
+        } catch (IOException e) {
+            // Storage errors, such as an existing object, are reported wrapped by the output stream
+            if (e.getCause() instanceof BlobStorageException storageException) {
+                throw storageException;
+            }
+            throw new UncheckedIOException(e);
+        }
+        return blobClient.getBlobUrl();
+    }
+
+    public String getUrl(String path) {
+        return getContainer().getBlobClient(path).getBlobUrl();
+    }
+
     public InputStream download(String path) {
         return getContainer().getBlobClient(path).openInputStream();
     }
 
+    /**
+     * Opens a stream over a byte range of the object. The download fails if the object no longer matches the given entity tag,
+     * so that the streamed bytes always belong to the version whose metadata was sent to the client.
+     */
+    public InputStream download(String path, long offset, long count, String eTag) {
+        BlobRequestConditions conditions = new BlobRequestConditions().setIfMatch(eTag);
+        return getContainer().getBlobClient(path).openInputStream(new BlobRange(offset, count), conditions);
+    }
+
+    /**
+     * Returns the metadata of the object at the given path, or null if there is no such object.
+     */
+    public StoredObject getProperties(String path) {
+        try {
+            BlobProperties properties = getContainer().getBlobClient(path).getProperties();
+            return new StoredObject(path, properties.getETag(), properties.getBlobSize(), properties.getContentEncoding());
+        } catch (BlobStorageException e) {
+            // HEAD responses carry no error body, so the status code is the reliable signal here
+            if (e.getStatusCode() == HTTP_NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
     public abstract BlobContainerClient getContainer();
+
+    /**
+     * Writes the content of an object. The stream must not be closed, the storage service closes it once the content is complete.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
 }
@@ -0,0 +1,334 @@
+package org.eclipse.edc.dse.telemetry.services.storage;
+
+import com.azure.storage.blob.BlobContainerClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a bounded, least-recently-used set of reports on local disk in front of the blob storage.
+ * <p>
+ * Monthly reports are immutable once written, so after the first download a report is served from a local copy
+ * without contacting the storage at all. The local copy is filled in the background after a download missed the cache, so that
+ * neither that download nor a metadata lookup waits for the whole report to be transferred. Every upload through this service
+ * invalidates the local copy of the written path.
+ * <p>
+ * The file of an evicted report is deleted as soon as the last stream reading it is closed, so that the disk space it
+ * used is freed right away and the capacity bounds the disk usage of the cache.
+ */
+public class CachingStorageService extends AzureStorageService {
+
+    private final Monitor monitor;
+    private final AzureStorageService delegate;
+    private final Path directory;
+    private final long maxBytes;
+    private final Executor loader;
+
+    // Access-ordered, so that iteration starts from the least recently used report
+    private final LinkedHashMap<String, CachedReport> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+    private final AtomicLong invalidations = new AtomicLong();
+    private long totalBytes;
+
+    public CachingStorageService(Monitor monitor, AzureStorageService delegate, Path baseDirectory, long maxBytes) {
+        this(monitor, delegate, baseDirectory, maxBytes, Executors.newSingleThreadExecutor());
+    }
+
+    CachingStorageService(Monitor monitor, AzureStorageService delegate, Path baseDirectory, long maxBytes, Executor loader) {
+        super();
+        this.monitor = monitor;
+        this.delegate = delegate;
+        this.maxBytes = maxBytes;
+        this.loader = loader;
+        try {
+            // The index only lives in memory, so every process starts from its own empty directory
+            Files.createDirectories(baseDirectory);
+            this.directory = Files.createTempDirectory(baseDirectory, "reports-");
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot create report cache directory in " + baseDirectory, e);
+        }
+        monitor.info("Report cache enabled in " + directory + " with a capacity of " + maxBytes + " bytes");
+    }
+
+    @Override
+    public BlobContainerClient getContainer() {
+        return delegate.getContainer();
+    }
+
+    @Override
+    public String upload(String path, byte[] data) {
+        try {
+            return delegate.upload(path, data);
+        } finally {
+            invalidate(path);
+        }
+    }
+
+    @Override
+    public String upload(String path, ContentWriter content, String contentType, String contentEncoding) {
+        try {
+            return delegate.upload(path, content, contentType, contentEncoding);
+        } finally {
+            invalidate(path);
+        }
+    }
+
+    @Override
+    public InputStream download(String path, long offset, long count, String eTag) {
+        InputStream cached = open(path, eTag, offset, count);
+        if (cached != null) {
+            return cached;
+        }
+        loadInBackground(path, eTag);
+        return delegate.download(path, offset, count, eTag);
+    }
+
+    // Only answered from the local copy when there is one, a lookup never fills the cache
+    @Override
+    public StoredObject getProperties(String path) {
+        synchronized (entries) {
+            CachedReport cached = entries.get(path);
+            if (cached != null) {
+                return cached.object();
+            }
+        }
+        return delegate.getProperties(path);
+    }
+
+    /**
+     * Drops the local copy of the report at the given path, if any.
+     */
+    public void invalidate(String path) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            CachedReport removed = entries.remove(path);
+            if (removed != null) {
+                release(removed);
+            }
+        }
+    }
+
+    /**
+     * Drops every local copy and removes the cache directory.
+     */
+    public void clear() {
+        if (loader instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            entries.values().forEach(this::release);
+            entries.clear();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(this::deleteQuietly);
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            monitor.warning("Could not remove report cache directory " + directory + ": " + e.getMessage());
+        }
+    }
+
+    long cachedBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    // A null entity tag matches any version of the report
+    private InputStream open(String path, String eTag, long offset, long count) {
+        synchronized (entries) {
+            CachedReport cached = entries.get(path);
+            if (cached == null || eTag != null && !cached.object().eTag().equals(eTag)) {
+                return null;
+            }
+            FileChannel channel;
+            try {
+                channel = FileChannel.open(cached.file(), StandardOpenOption.READ).position(offset);
+            } catch (IOException e) {
+                monitor.debug("Could not read cached report " + path + ": " + e.getMessage());
+                return null;
+            }
+            cached.readers++;
+            return new FileRangeInputStream(channel, count, () -> close(cached));
+        }
+    }
+
+    private void loadInBackground(String path, String eTag) {
+        if (!loading.add(path)) {
+            return;
+        }
+        try {
+            loader.execute(() -> {
+                try {
+                    load(path, eTag);
+                } finally {
+                    loading.remove(path);
+                }
+            });
+        } catch (RuntimeException e) {
+            loading.remove(path);
+            monitor.debug("Could not schedule caching of report " + path + ": " + e.getMessage());
+        }
+    }
+
+    // Caching is best effort: when a report cannot be cached the request is still served from the storage
+    private void load(String path, String eTag) {
+        long invalidationsBeforeLoad = invalidations.get();
+        Path file = null;
+        try {
+            StoredObject object = delegate.getProperties(path);
+            if (object == null || eTag != null && !object.eTag().equals(eTag) || object.size() > maxBytes) {
+                return;
+            }
+            file = Files.createTempFile(directory, "report-", ".bin");
+            try (InputStream inputStream = delegate.download(object.path(), 0, object.size(), object.eTag())) {
+                Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            put(new CachedReport(object, file), invalidationsBeforeLoad);
+        } catch (Exception e) {
+            monitor.warning("Could not cache report " + path + ": " + e.getMessage());
+            if (file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private void put(CachedReport report, long invalidationsBeforeLoad) {
+        synchronized (entries) {
+            // A report uploaded while it was being downloaded could otherwise be cached in its previous version
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                deleteQuietly(report.file());
+                return;
+            }
+            CachedReport previous = entries.put(report.object().path(), report);
+            if (previous != null) {
+                release(previous);
+            }
+            totalBytes += report.object().size();
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Iterator<Map.Entry<String, CachedReport>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            CachedReport eldest = iterator.next().getValue();
+            iterator.remove();
+            release(eldest);
+            monitor.debug("Evicted report " + eldest.object().path() + " from the local cache");
+        }
+    }
+
+    // Streams still reading a released report keep working, the report is only discarded once the last of them is closed
+    private void release(CachedReport report) {
+        report.released = true;
+        if (report.readers == 0) {
+            totalBytes -= report.object().size();
+            deleteQuietly(report.file());
+        }
+    }
+
+    private void close(CachedReport report) {
+        synchronized (entries) {
+            report.readers--;
+            if (report.released && report.readers == 0) {
+                totalBytes -= report.object().size();
+                deleteQuietly(report.file());
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            monitor.warning("Could not delete cached report file " + file + ": " + e.getMessage());
+        }
+    }
+
+    // The reader count and the released flag are guarded by the entries lock
+    private static final class CachedReport {
+
+        private final StoredObject object;
+        private final Path file;
+        private int readers;
+        private boolean released;
+
+        private CachedReport(StoredObject object, Path file) {
+            this.object = object;
+            this.file = file;
+        }
+
+        StoredObject object() {
+            return object;
+        }
+
+        Path file() {
+            return file;
+        }
+    }
+
+    private static final class FileRangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final Runnable onClose;
+        private long remaining;
+        private boolean closed;
+
+        private FileRangeInputStream(FileChannel channel, long count, Runnable onClose) {
+            this.channel = channel;
+            this.remaining = count;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (closed || remaining <= 0) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(bytes, offset, (int) Math.min(length, remaining)));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                try {
+                    channel.close();
+                } finally {
+                    onClose.run();
+                }
+            }
+        }
+    }
+}
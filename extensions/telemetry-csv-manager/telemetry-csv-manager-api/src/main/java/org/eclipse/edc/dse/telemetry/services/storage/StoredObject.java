@@ -0,0 +1,16 @@
+package org.eclipse.edc.dse.telemetry.services.storage;
+
+/**
+ * Metadata of an object held in the report storage.
+ *
+ * @param path            the object path inside the container
+ * @param eTag            the entity tag of the current object version, as a quoted string
+ * @param size            the object size in bytes, as stored
+ * @param contentEncoding the content coding the object is stored with (e.g. gzip), or null if it is stored as is
+ */
+public record StoredObject(String path, String eTag, long size, String contentEncoding) {
+
+    public StoredObject(String path, String eTag, long size) {
+        this(path, eTag, size, null);
+    }
+}
@@ -0,0 +1,41 @@
+package org.eclipse.edc.dse.telemetry.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AcceptEncodingTest {
+
+    private static final String GZIP = "gzip";
+
+    @Test
+    @DisplayName("Should accept a coding listed by the client")
+    void shouldAccept_WhenCodingListed() {
+        assertTrue(AcceptEncoding.accepts("gzip", GZIP));
+        assertTrue(AcceptEncoding.accepts("br, GZIP;q=0.8, deflate", GZIP));
+        assertTrue(AcceptEncoding.accepts("x-gzip", GZIP));
+    }
+
+    @Test
+    @DisplayName("Should accept any coding when the wildcard is listed")
+    void shouldAccept_WhenWildcardListed() {
+        assertTrue(AcceptEncoding.accepts("br, *;q=0.1", GZIP));
+    }
+
+    @Test
+    @DisplayName("Should reject a coding the client explicitly refuses")
+    void shouldReject_WhenQualityIsZero() {
+        assertFalse(AcceptEncoding.accepts("gzip;q=0, *", GZIP));
+        assertFalse(AcceptEncoding.accepts("*;q=0", GZIP));
+    }
+
+    @Test
+    @DisplayName("Should only accept identity when the header is absent or does not list the coding")
+    void shouldReject_WhenHeaderAbsentOrCodingNotListed() {
+        assertFalse(AcceptEncoding.accepts(null, GZIP));
+        assertFalse(AcceptEncoding.accepts(" ", GZIP));
+        assertFalse(AcceptEncoding.accepts("br, identity", GZIP));
+    }
+}
@@ -0,0 +1,61 @@
+package org.eclipse.edc.dse.telemetry.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    @Test
+    @DisplayName("Should resolve a bounded range")
+    void shouldResolveRange_WhenBounded() {
+        ByteRange range = ByteRange.parse("bytes=0-499", SIZE);
+
+        assertEquals(new ByteRange(0, 499), range);
+        assertEquals(500, range.length());
+        assertEquals("bytes 0-499/1000", range.contentRange(SIZE));
+    }
+
+    @Test
+    @DisplayName("Should resolve an open-ended range up to the last byte")
+    void shouldResolveRange_WhenOpenEnded() {
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=900-", SIZE));
+    }
+
+    @Test
+    @DisplayName("Should clamp the range end to the last byte")
+    void shouldClampRangeEnd_WhenBeyondSize() {
+        assertEquals(new ByteRange(900, 999), ByteRange.parse("bytes=900-5000", SIZE));
+    }
+
+    @Test
+    @DisplayName("Should resolve a suffix range")
+    void shouldResolveRange_WhenSuffix() {
+        assertEquals(new ByteRange(800, 999), ByteRange.parse("bytes=-200", SIZE));
+        assertEquals(new ByteRange(0, 999), ByteRange.parse("bytes=-5000", SIZE));
+    }
+
+    @Test
+    @DisplayName("Should be unsatisfiable when the range starts after the last byte")
+    void shouldBeUnsatisfiable_WhenStartBeyondSize() {
+        ByteRange range = ByteRange.parse("bytes=1000-", SIZE);
+
+        assertSame(ByteRange.UNSATISFIABLE, range);
+        assertEquals("bytes */1000", range.contentRange(SIZE));
+    }
+
+    @Test
+    @DisplayName("Should ignore absent, malformed and multi-range headers")
+    void shouldIgnoreHeader_WhenAbsentMalformedOrMultiRange() {
+        assertNull(ByteRange.parse(null, SIZE));
+        assertNull(ByteRange.parse("items=0-10", SIZE));
+        assertNull(ByteRange.parse("bytes=abc-10", SIZE));
+        assertNull(ByteRange.parse("bytes=10-5", SIZE));
+        assertNull(ByteRange.parse("bytes=0-10,20-30", SIZE));
+    }
+}
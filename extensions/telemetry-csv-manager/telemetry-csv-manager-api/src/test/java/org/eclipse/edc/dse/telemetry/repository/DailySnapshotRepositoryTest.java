@@ -0,0 +1,99 @@
+package org.eclipse.edc.dse.telemetry.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.eclipse.edc.dse.telemetry.TestUtils.TEST_PERSISTENCE_UNIT;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DailySnapshotRepositoryTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2025, 11, 14);
+    private static final LocalDate DAY_2 = LocalDate.of(2025, 11, 15);
+
+    private static EntityManager em;
+    private static EntityManagerFactory emf;
+
+    private DailySnapshotRepository dailySnapshotRepository;
+
+    @BeforeAll
+    void setup() {
+        emf = Persistence.createEntityManagerFactory(TEST_PERSISTENCE_UNIT);
+        em = emf.createEntityManager();
+
+        dailySnapshotRepository = new DailySnapshotRepository(em);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailySnapshotRepository.deleteSnapshotsBefore(LocalDate.of(2100, 1, 1));
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("Merging daily snapshots should sum the stats of every day of the month")
+    void shouldSumDailyStats_WhenMergingMonth() {
+        dailySnapshotRepository.replaceSnapshot(DAY_1, List.of(
+                new ParticipantContractStats("p1", "contract-1", 200, 100L, 1L),
+                new ParticipantContractStats("p2", "contract-1", 200, 100L, 1L)));
+        dailySnapshotRepository.replaceSnapshot(DAY_2, List.of(
+                new ParticipantContractStats("p1", "contract-1", 200, 50L, 2L),
+                new ParticipantContractStats("p1", "contract-1", 500, 10L, 1L)));
+        dailySnapshotRepository.replaceSnapshot(LocalDate.of(2025, 12, 1), List.of(
+                new ParticipantContractStats("p1", "contract-1", 200, 999L, 9L)));
+
+        List<ParticipantContractStats> stats = dailySnapshotRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(11, 2025);
+
+        assertThat(stats.size()).isEqualTo(3);
+        assertThat(stats.get(0)).isEqualTo(new ParticipantContractStats("p1", "contract-1", 200, 150L, 3L));
+        assertThat(stats.get(1)).isEqualTo(new ParticipantContractStats("p1", "contract-1", 500, 10L, 1L));
+        assertThat(stats.get(2)).isEqualTo(new ParticipantContractStats("p2", "contract-1", 200, 100L, 1L));
+    }
+
+    @Test
+    @DisplayName("Replacing a snapshot should not count the day twice")
+    void shouldReplaceDayStats_WhenSnapshotTakenAgain() {
+        dailySnapshotRepository.replaceSnapshot(DAY_1, List.of(new ParticipantContractStats("p1", "contract-1", 200, 100L, 1L)));
+        dailySnapshotRepository.replaceSnapshot(DAY_1, List.of(new ParticipantContractStats("p1", "contract-1", 200, 300L, 3L)));
+
+        List<ParticipantContractStats> stats = dailySnapshotRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(11, 2025);
+
+        assertThat(stats.size()).isEqualTo(1);
+        assertThat(stats.get(0)).isEqualTo(new ParticipantContractStats("p1", "contract-1", 200, 300L, 3L));
+    }
+
+    @Test
+    @DisplayName("Days without events should still be recorded as snapshot days")
+    void shouldRecordSnapshotDay_WhenDayHasNoEvents() {
+        dailySnapshotRepository.replaceSnapshot(DAY_1, List.of());
+
+        Set<LocalDate> days = dailySnapshotRepository.findSnapshotDays(DAY_1, DAY_2);
+
+        assertThat(days).isEqualTo(Set.of(DAY_1));
+        assertThat(dailySnapshotRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(11, 2025).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Purging snapshots should only remove the days before the given one")
+    void shouldKeepLaterDays_WhenPurging() {
+        dailySnapshotRepository.replaceSnapshot(DAY_1, List.of(new ParticipantContractStats("p1", "contract-1", 200, 100L, 1L)));
+        dailySnapshotRepository.replaceSnapshot(DAY_2, List.of(new ParticipantContractStats("p1", "contract-1", 200, 50L, 2L)));
+
+        dailySnapshotRepository.deleteSnapshotsBefore(DAY_2);
+
+        assertThat(dailySnapshotRepository.findSnapshotDays(DAY_1, DAY_2.plusDays(1))).isEqualTo(Set.of(DAY_2));
+        assertThat(dailySnapshotRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(11, 2025).get(0))
+                .isEqualTo(new ParticipantContractStats("p1", "contract-1", 200, 50L, 2L));
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+import org.hibernate.Session;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -65,6 +66,19 @@ public class ParticipantRepositoryTest {
         assertEquals(2, all.size());
     }
 
+    @Test
+    @DisplayName("Should find all participant ids without loading the participants")
+    void shouldReturnIds_WhenFindAllIds() {
+        repo.saveTransactional(new ParticipantId("did:web:p3-identityhub%3A8383:api:did", "u3@example.com", "p3"));
+        repo.saveTransactional(new ParticipantId("did:web:p2-identityhub%3A8383:api:did", "u2@example.com", "p2"));
+        em.clear();
+
+        List<String> ids = repo.findAllIds();
+
+        assertEquals(List.of("did:web:p2-identityhub%3A8383:api:did", "did:web:p3-identityhub%3A8383:api:did"), ids);
+        assertEquals(0, em.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
     @ParameterizedTest(name = "Should fail to save participant with invalid arguments: did=''{0}'', email=''{1}'', name=''{2}''")
     @MethodSource("invalidParticipantArguments")
     void testSaveParticipantWithInvalidArgumentsFails(String did, String email, String participantName) {
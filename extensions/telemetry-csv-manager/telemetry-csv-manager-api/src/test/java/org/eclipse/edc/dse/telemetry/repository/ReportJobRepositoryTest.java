@@ -0,0 +1,69 @@
+package org.eclipse.edc.dse.telemetry.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.eclipse.edc.dse.telemetry.model.ReportFlavour;
+import org.eclipse.edc.dse.telemetry.model.ReportJob;
+import org.eclipse.edc.dse.telemetry.model.ReportJobStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.eclipse.edc.dse.telemetry.TestUtils.P1_DID;
+import static org.eclipse.edc.dse.telemetry.TestUtils.TEST_PERSISTENCE_UNIT;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReportJobRepositoryTest {
+
+    private static final LocalDate SEPTEMBER = LocalDate.of(2025, 9, 1);
+
+    private static EntityManager em;
+    private static EntityManagerFactory emf;
+
+    private ReportJobRepository reportJobRepository;
+
+    @BeforeAll
+    void setup() {
+        emf = Persistence.createEntityManagerFactory(TEST_PERSISTENCE_UNIT);
+        em = emf.createEntityManager();
+
+        reportJobRepository = new ReportJobRepository(em);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobRepository.findAll().forEach(reportJobRepository::deleteTransactional);
+    }
+
+    @Test
+    @DisplayName("Starting a job again should reuse it and count the attempt")
+    void shouldCountAttempts_WhenJobStartedAgain() {
+        ReportJob job = reportJobRepository.startJob(SEPTEMBER, P1_DID, ReportFlavour.STANDARD);
+        reportJobRepository.failJob(job, "upload failed");
+
+        ReportJob retried = reportJobRepository.startJob(SEPTEMBER.withDayOfMonth(15), P1_DID, ReportFlavour.STANDARD);
+
+        assertThat(retried.getId()).isEqualTo(job.getId());
+        assertThat(retried.getAttempts()).isEqualTo(2);
+        assertThat(retried.getStatus()).isEqualTo(ReportJobStatus.IN_PROGRESS);
+        assertThat(retried.getLastError()).isEqualTo("upload failed");
+    }
+
+    @Test
+    @DisplayName("Counting jobs by status should only count the given month")
+    void shouldCountCompletedJobs_WhenMonthHasJobs() {
+        reportJobRepository.completeJob(reportJobRepository.startJob(SEPTEMBER, P1_DID, ReportFlavour.STANDARD));
+        reportJobRepository.failJob(reportJobRepository.startJob(SEPTEMBER, P1_DID, ReportFlavour.EXTENDED), "upload failed");
+        reportJobRepository.completeJob(reportJobRepository.startJob(SEPTEMBER.plusMonths(1), P1_DID, ReportFlavour.STANDARD));
+
+        assertThat(reportJobRepository.countByReportMonthAndStatus(SEPTEMBER, ReportJobStatus.COMPLETED)).isEqualTo(1L);
+        assertThat(reportJobRepository.countByReportMonthAndStatus(SEPTEMBER, ReportJobStatus.FAILED)).isEqualTo(1L);
+        assertThat(reportJobRepository.findJob(SEPTEMBER, P1_DID, ReportFlavour.STANDARD).isCompleted()).isTrue();
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.TestInstance;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.eclipse.edc.dse.telemetry.TestUtils.TEST_PERSISTENCE_UNIT;
@@ -218,5 +219,38 @@ public class TelemetryEventRepositoryTest {
         assertThat(result.responseStatus()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Retrieval of monthly stats should group all participants by contract id and status code in a single result")
+    void shouldReturnStatsGroupedByParticipantContractIdAndStatusCode_WhenExists() {
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e1", "contract-1", consumer, 200,
+                254, LocalDateTime.of(2025, 11, 15, 12, 0)));
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e2", "contract-1", consumer, 200,
+                100, LocalDateTime.of(2025, 11, 16, 12, 0)));
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e3", "contract-1", provider, 500,
+                300, LocalDateTime.of(2025, 11, 15, 12, 0)));
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e4", "contract-1", provider, 200,
+                150, LocalDateTime.of(2025, 10, 19, 12, 0)));
+
+        List<ParticipantContractStats> result = telemetryEventRepository.findStatsGroupedByParticipantIdContractIdAndStatusCode(11, 2025);
+
+        assertThat(result.size()).isEqualTo(2);
+        assertThat(result.get(0)).isEqualTo(new ParticipantContractStats(consumer.getId(), "contract-1", 200, 354L, 2L));
+        assertThat(result.get(1)).isEqualTo(new ParticipantContractStats(provider.getId(), "contract-1", 500, 300L, 1L));
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Retrieval of monthly contract parties should include parties that only have events outside of the month")
+    void shouldReturnContractPartiesForMonth_WhenCounterpartyHasNoEventsInMonth() {
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e1", "contract-1", consumer, 200,
+                254, LocalDateTime.of(2025, 11, 15, 12, 0)));
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e2", "contract-1", provider, 200,
+                254, LocalDateTime.of(2025, 10, 15, 12, 0)));
+        telemetryEventRepository.saveTransactional(createTelemetryEvent("e3", "contract-2", consumer, 200,
+                254, LocalDateTime.of(2025, 10, 15, 12, 0)));
+
+        Map<String, List<ParticipantId>> result = telemetryEventRepository.findContractPartiesForMonth(11, 2025);
+
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.get("contract-1").size()).isEqualTo(2);
+    }
+}
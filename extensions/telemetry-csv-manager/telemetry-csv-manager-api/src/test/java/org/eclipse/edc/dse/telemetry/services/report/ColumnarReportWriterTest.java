@@ -0,0 +1,108 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.eclipse.edc.dse.telemetry.repository.ContractStats;
+import org.eclipse.edc.dse.telemetry.services.ReportUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarReportWriterTest {
+
+    @Test
+    @DisplayName("Should write typed columns with the transfer size in bytes")
+    void shouldWriteTypedColumns_WhenStandardReport() throws IOException {
+        List<ReportRow> rows = List.of(
+                new ReportRow(new ContractStats("contract1", 200, 159L, 1L), null, "participantName2", null),
+                new ReportRow(new ContractStats("contract2", null, null, null), null, "N/A", null));
+
+        byte[] content = write(rows, false, false);
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(content), allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertEquals(ColumnarReportWriter.REPORT_SCHEMA, root.getSchema());
+            assertTrue(reader.loadNextBatch());
+            assertEquals(2, root.getRowCount());
+            assertEquals("contract1", ((VarCharVector) root.getVector(ColumnarReportWriter.CONTRACT_ID)).getObject(0).toString());
+            assertEquals(200, ((IntVector) root.getVector(ColumnarReportWriter.RESPONSE_STATUS)).get(0));
+            assertEquals(159L, ((BigIntVector) root.getVector(ColumnarReportWriter.TRANSFER_SIZE)).get(0));
+            assertTrue(root.getVector(ColumnarReportWriter.RESPONSE_STATUS).isNull(1));
+            assertEquals(0L, ((BigIntVector) root.getVector(ColumnarReportWriter.EVENT_COUNT)).get(1));
+            assertFalse(reader.loadNextBatch());
+        }
+    }
+
+    @Test
+    @DisplayName("Should split large reports into record batches and compress them when requested")
+    void shouldWriteBatches_WhenReportExceedsBatchSize() throws IOException {
+        int rowCount = ColumnarReportWriter.BATCH_SIZE + 10;
+        List<ReportRow> rows = new ArrayList<>(rowCount);
+        IntStream.range(0, rowCount).forEach(i -> rows.add(new ReportRow(new ContractStats("contract" + i, 200, (long) i, 1L),
+                "participantName", "participantName2", new ContractStats("contract" + i, 200, (long) i, 1L))));
+
+        byte[] content = write(rows, true, true);
+
+        List<Integer> batchSizes = new ArrayList<>();
+        long lastSize = -1;
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content));
+             BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(inputStream, allocator)) {
+            VectorSchemaRoot root = reader.getVectorSchemaRoot();
+            assertEquals(ColumnarReportWriter.EXTENDED_REPORT_SCHEMA, root.getSchema());
+            while (reader.loadNextBatch()) {
+                batchSizes.add(root.getRowCount());
+                lastSize = ((BigIntVector) root.getVector(ColumnarReportWriter.COUNTERPARTY_TRANSFER_SIZE)).get(root.getRowCount() - 1);
+            }
+        }
+        assertEquals(List.of(ColumnarReportWriter.BATCH_SIZE, 10), batchSizes);
+        assertEquals(rowCount - 1, lastSize);
+    }
+
+    @Test
+    @DisplayName("Should write only the schema when the report has no rows")
+    void shouldWriteSchemaOnly_WhenReportIsEmpty() throws IOException {
+        byte[] content = write(List.of(), false, false);
+
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(content), allocator)) {
+            assertEquals(ColumnarReportWriter.REPORT_SCHEMA, reader.getVectorSchemaRoot().getSchema());
+            assertFalse(reader.loadNextBatch());
+        }
+    }
+
+    @Test
+    @DisplayName("Should name the columnar report after its CSV")
+    void shouldReplaceExtension_WhenColumnarFileName() {
+        assertEquals("report-participantName-2025-8.arrows", ReportUtil.toColumnarFileName("report-participantName-2025-8.csv"));
+    }
+
+    private static byte[] write(List<ReportRow> rows, boolean includeCounterpartyInfo, boolean compress) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new AssertionError("The upload stream is closed by the storage service");
+            }
+        };
+        ColumnarReportWriter.write(rows, includeCounterpartyInfo, compress, outputStream);
+        return outputStream.toByteArray();
+    }
+}
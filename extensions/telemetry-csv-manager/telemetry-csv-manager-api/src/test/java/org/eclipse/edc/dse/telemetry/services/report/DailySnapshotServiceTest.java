@@ -0,0 +1,180 @@
+package org.eclipse.edc.dse.telemetry.services.report;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+import org.eclipse.edc.dse.telemetry.model.TelemetryEvent;
+import org.eclipse.edc.dse.telemetry.repository.ContractStats;
+import org.eclipse.edc.dse.telemetry.repository.DailySnapshotRepository;
+import org.eclipse.edc.dse.telemetry.repository.ParticipantRepository;
+import org.eclipse.edc.dse.telemetry.repository.ReportRepository;
+import org.eclipse.edc.dse.telemetry.repository.TelemetryEventRepository;
+import org.eclipse.edc.dse.telemetry.services.storage.AzureStorageService;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.dse.telemetry.TestUtils.P1_DID;
+import static org.eclipse.edc.dse.telemetry.TestUtils.P2_DID;
+import static org.eclipse.edc.dse.telemetry.TestUtils.PARTICIPANT_NAME;
+import static org.eclipse.edc.dse.telemetry.TestUtils.PARTICIPANT_NAME_2;
+import static org.eclipse.edc.dse.telemetry.TestUtils.TEST_PERSISTENCE_UNIT;
+import static org.eclipse.edc.dse.telemetry.TestUtils.USER_EMAIL;
+import static org.eclipse.edc.dse.telemetry.TestUtils.USER_EMAIL_2;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DailySnapshotServiceTest {
+
+    private static final String CONTRACT_1 = "contract1";
+    private static final String CONTRACT_2 = "contract2";
+    private static final LocalDateTime AUGUST = LocalDateTime.of(2025, Month.AUGUST, 1, 0, 0);
+
+    private static EntityManager em;
+    private static EntityManagerFactory emf;
+    private ParticipantRepository participantRepo;
+    private TelemetryEventRepository telemetryEventRepo;
+    private DailySnapshotRepository dailySnapshotRepo;
+    private DailySnapshotService dailySnapshotService;
+
+    @BeforeAll
+    void setup() {
+        emf = Persistence.createEntityManagerFactory(TEST_PERSISTENCE_UNIT);
+        em = emf.createEntityManager();
+
+        participantRepo = new ParticipantRepository(em);
+        telemetryEventRepo = new TelemetryEventRepository(em);
+        dailySnapshotRepo = new DailySnapshotRepository(em);
+        dailySnapshotService = new DailySnapshotService(mock(Monitor.class), telemetryEventRepo, dailySnapshotRepo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dailySnapshotRepo.deleteSnapshotsBefore(LocalDate.of(2100, 1, 1));
+        em.clear();
+        em.getTransaction().begin();
+        telemetryEventRepo.findAll().forEach(telemetryEventRepo::delete);
+        participantRepo.findAll().forEach(participantRepo::delete);
+        em.getTransaction().commit();
+    }
+
+    @Test
+    @DisplayName("Should aggregate the closed days that have no snapshot yet and the most recent ones again")
+    void shouldAggregateMissingAndRecentDays_WhenSomeDaysAlreadyAggregated() {
+        dailySnapshotService.aggregateDay(LocalDate.of(2025, Month.AUGUST, 2));
+        dailySnapshotService.aggregateDay(LocalDate.of(2025, Month.AUGUST, 8));
+
+        int aggregated = dailySnapshotService.aggregateClosedDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.AUGUST, 10));
+
+        // Every day but the 2nd, which is aggregated and older than the late event window
+        assertEquals(8, aggregated);
+        assertEquals(9, dailySnapshotRepo.findSnapshotDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.AUGUST, 10)).size());
+    }
+
+    @Test
+    @DisplayName("Should include the events ingested within the late event window after their day was aggregated")
+    void shouldIncludeLateEvents_WhenMergingDailySnapshots() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        participantRepo.save(participant1);
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 3, 10, 0), 100, 200));
+        em.getTransaction().commit();
+        dailySnapshotService.aggregateClosedDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.AUGUST, 4));
+
+        em.getTransaction().begin();
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 3, 23, 0), 50, 200));
+        em.getTransaction().commit();
+        dailySnapshotService.aggregateClosedDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.AUGUST, 5));
+        MonthlyContractStats merged = dailySnapshotService.loadMonthlyContractStats(AUGUST, LocalDate.of(2025, Month.SEPTEMBER, 2));
+
+        assertEquals(List.of(new ContractStats(CONTRACT_1, 200, 150L, 2L)), merged.statsFor(P1_DID));
+    }
+
+    @Test
+    @DisplayName("Should merge the snapshots of the month without aggregating their days again")
+    void shouldNotAggregateAgain_WhenMergingSnapshotsOlderThanLateEventWindow() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        participantRepo.save(participant1);
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 10, 10, 0), 100, 200));
+        em.getTransaction().commit();
+        dailySnapshotService.aggregateClosedDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.SEPTEMBER, 2));
+
+        // Ingested after the late event window of the 10th, so only a new aggregation of the day would include it
+        em.getTransaction().begin();
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 10, 23, 0), 50, 200));
+        em.getTransaction().commit();
+        MonthlyContractStats merged = dailySnapshotService.loadMonthlyContractStats(AUGUST, LocalDate.of(2025, Month.SEPTEMBER, 2));
+
+        assertEquals(List.of(new ContractStats(CONTRACT_1, 200, 100L, 1L)), merged.statsFor(P1_DID));
+    }
+
+    @Test
+    @DisplayName("Should merge daily snapshots into the same stats as the month-wide aggregation")
+    void shouldMatchMonthlyAggregation_WhenMergingDailySnapshots() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        ParticipantId participant2 = new ParticipantId(P2_DID, USER_EMAIL_2, PARTICIPANT_NAME_2);
+        participantRepo.save(participant1);
+        participantRepo.save(participant2);
+
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 1, 0, 0), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 14, 23, 59), 200, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant2, LocalDateTime.of(2025, Month.AUGUST, 15, 0, 0), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_2, participant1, LocalDateTime.of(2025, Month.AUGUST, 31, 23, 59), 159, 400));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_2, participant2, LocalDateTime.of(2025, Month.JULY, 31, 23, 59), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_2, participant2, LocalDateTime.of(2025, Month.SEPTEMBER, 1, 0, 0), 159, 200));
+        em.getTransaction().commit();
+
+        // Mid-month snapshots, the rest of the month is caught up when merging
+        dailySnapshotService.aggregateClosedDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.AUGUST, 15));
+
+        MonthlyContractStats merged = dailySnapshotService.loadMonthlyContractStats(AUGUST, LocalDate.of(2025, Month.SEPTEMBER, 2));
+        MonthlyContractStats aggregated = new ReportGenerationService(mock(Monitor.class), participantRepo, new ReportRepository(em), telemetryEventRepo,
+                mock(AzureStorageService.class)).loadMonthlyContractStats(AUGUST);
+
+        assertEquals(31, dailySnapshotRepo.findSnapshotDays(LocalDate.of(2025, Month.AUGUST, 1), LocalDate.of(2025, Month.SEPTEMBER, 1)).size());
+        for (String participantId : List.of(P1_DID, P2_DID)) {
+            assertEquals(aggregated.statsFor(participantId), merged.statsFor(participantId));
+            assertEquals(partiesById(aggregated.contractParties(aggregated.statsFor(participantId))),
+                    partiesById(merged.contractParties(merged.statsFor(participantId))));
+        }
+    }
+
+    private static Map<String, Set<String>> partiesById(Map<String, List<ParticipantId>> contractParties) {
+        return contractParties.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                entry -> entry.getValue().stream().map(ParticipantId::getId).collect(Collectors.toSet())));
+    }
+
+    private static TelemetryEvent createTelemetryEvent(String contractId, ParticipantId participant, LocalDateTime timestamp, Integer msgSize, Integer responseStatusCode) {
+        TelemetryEvent telemetryEvent = new TelemetryEvent();
+        telemetryEvent.setId(UUID.randomUUID().toString());
+        telemetryEvent.setContractId(contractId);
+        telemetryEvent.setParticipant(participant);
+        telemetryEvent.setResponseStatusCode(responseStatusCode);
+        telemetryEvent.setMsgSize(msgSize);
+        telemetryEvent.setTimestamp(timestamp);
+        return telemetryEvent;
+    }
+
+    @AfterAll
+    static void teardown() {
+        if (em != null && em.isOpen()) em.close();
+        if (emf != null && emf.isOpen()) emf.close();
+    }
+}
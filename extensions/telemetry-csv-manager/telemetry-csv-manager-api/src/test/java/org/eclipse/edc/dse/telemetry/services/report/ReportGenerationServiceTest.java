@@ -5,6 +5,7 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 import org.eclipse.edc.dse.telemetry.model.ParticipantId;
 import org.eclipse.edc.dse.telemetry.model.Report;
+import org.eclipse.edc.dse.telemetry.model.ReportFlavour;
 import org.eclipse.edc.dse.telemetry.model.TelemetryEvent;
 import org.eclipse.edc.dse.telemetry.repository.ParticipantRepository;
 import org.eclipse.edc.dse.telemetry.repository.ReportRepository;
@@ -22,11 +23,20 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import static org.eclipse.edc.dse.telemetry.TestUtils.P1_DID;
 import static org.eclipse.edc.dse.telemetry.TestUtils.P2_DID;
@@ -42,9 +52,11 @@ import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class ReportGenerationServiceTest {
@@ -588,6 +600,120 @@ class ReportGenerationServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("Should generate the same reports when the month is aggregated once for all participants")
+    void shouldSucceed_WhenReportGenerationUsesMonthlyAggregation() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        ParticipantId participant2 = new ParticipantId(P2_DID, USER_EMAIL_2, PARTICIPANT_NAME_2);
+        participantRepo.save(participant1);
+        participantRepo.save(participant2);
+
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 23, 12, 0), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant2, LocalDateTime.of(2025, Month.AUGUST, 23, 12, 2), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_2, participant1, LocalDateTime.of(2025, Month.AUGUST, 15, 13, 2), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_2, participant1, LocalDateTime.of(2025, Month.AUGUST, 15, 22, 2), 159, 400));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_2, participant2, LocalDateTime.of(2025, Month.AUGUST, 14, 13, 2), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_3, participant1, LocalDateTime.of(2025, Month.JULY, 2, 18, 7), 500, 200));
+        em.getTransaction().commit();
+
+        Map<String, String> uploads = new HashMap<>();
+        AzureStorageService mockedAzureStorageService = mock(AzureStorageService.class);
+        doAnswer(c -> {
+            uploads.put(c.getArgument(0), new String(c.<byte[]>getArgument(1), StandardCharsets.UTF_8));
+            return "objectUrl";
+        }).when(mockedAzureStorageService).upload(any(), any());
+
+        ReportGenerationService reportGenerationService = new ReportGenerationService(mock(Monitor.class), participantRepo, reportRepository, telemetryEventRepo, mockedAzureStorageService);
+        LocalDateTime targetDateTime = LocalDateTime.of(2025, Month.AUGUST, 1, 0, 0);
+
+        MonthlyContractStats monthlyStats = reportGenerationService.loadMonthlyContractStats(targetDateTime);
+        for (ParticipantId participant : List.of(participant1, participant2)) {
+            for (ReportFlavour flavour : ReportFlavour.values()) {
+                reportGenerationService.generateMonthlyReport(participant, targetDateTime, flavour, monthlyStats);
+            }
+        }
+
+        assertEquals(4, reportRepository.findAll().size());
+        assertLinesMatch(List.of(REPORT_HEADER,
+                        "contract1,participantName2,200,0.16,1",
+                        "contract2,participantName2,200,0.16,1",
+                        "contract2,participantName2,400,0.16,1"),
+                uploads.get("reports/2025/8/report-participantName-2025-8.csv").lines().toList());
+        assertLinesMatch(List.of(EXTENDED_REPORT_HEADER,
+                        "contract1,200,participantName,participantName2,0.16,0.16,1,1",
+                        "contract2,200,participantName,participantName2,0.16,0.16,1,1",
+                        "contract2,400,participantName,participantName2,0.16,0,1,0"),
+                uploads.get("extended-reports/2025/8/extended-report-participantName-2025-8.csv").lines().toList());
+        assertLinesMatch(List.of(EXTENDED_REPORT_HEADER,
+                        "contract1,200,participantName2,participantName,0.16,0.16,1,1",
+                        "contract2,200,participantName2,participantName,0.16,0.16,1,1"),
+                uploads.get("extended-reports/2025/8/extended-report-participantName2-2025-8.csv").lines().toList());
+    }
+
+    @Test
+    @DisplayName("Should upload gzip-compressed reports when compression is enabled")
+    void shouldUploadCompressedReport_WhenCompressionEnabled() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        ParticipantId participant2 = new ParticipantId(P2_DID, USER_EMAIL_2, PARTICIPANT_NAME_2);
+        participantRepo.save(participant1);
+        participantRepo.save(participant2);
+
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 23, 12, 0), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant2, LocalDateTime.of(2025, Month.AUGUST, 23, 12, 2), 159, 200));
+        em.getTransaction().commit();
+
+        AtomicReference<byte[]> uploadedContent = new AtomicReference<>();
+        AzureStorageService mockedAzureStorageService = mock(AzureStorageService.class);
+        doAnswer(c -> {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            c.<AzureStorageService.ContentWriter>getArgument(1).writeTo(content);
+            uploadedContent.set(content.toByteArray());
+            return "objectUrl";
+        }).when(mockedAzureStorageService).upload(any(), any(AzureStorageService.ContentWriter.class), eq(ReportUtil.CSV_CONTENT_TYPE), eq(ReportUtil.GZIP_ENCODING));
+
+        ReportGenerationService reportGenerationService = new ReportGenerationService(mock(Monitor.class), participantRepo, reportRepository, telemetryEventRepo,
+                mockedAzureStorageService, new ReportGenerationConfig(1, true, true, false, 1, 0, false));
+        reportGenerationService.generateReport(participant1, LocalDateTime.of(2025, Month.AUGUST, 1, 0, 0), false);
+
+        assertEquals(1, reportRepository.findAll().size());
+        assertLinesMatch(List.of(REPORT_HEADER, "contract1,participantName2,200,0.16,1"), gunzip(uploadedContent.get()).lines().toList());
+    }
+
+    @Test
+    @DisplayName("Should upload a columnar report next to the CSV when columnar export is enabled")
+    void shouldUploadColumnarReport_WhenColumnarExportEnabled() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        ParticipantId participant2 = new ParticipantId(P2_DID, USER_EMAIL_2, PARTICIPANT_NAME_2);
+        participantRepo.save(participant1);
+        participantRepo.save(participant2);
+
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant1, LocalDateTime.of(2025, Month.AUGUST, 23, 12, 0), 159, 200));
+        telemetryEventRepo.save(createTelemetryEvent(CONTRACT_1, participant2, LocalDateTime.of(2025, Month.AUGUST, 23, 12, 2), 159, 200));
+        em.getTransaction().commit();
+
+        AzureStorageService mockedAzureStorageService = mock(AzureStorageService.class);
+        doAnswer(c -> "objectUrl").when(mockedAzureStorageService).upload(any(), any());
+
+        ReportGenerationService reportGenerationService = new ReportGenerationService(mock(Monitor.class), participantRepo, reportRepository, telemetryEventRepo,
+                mockedAzureStorageService, new ReportGenerationConfig(1, true, false, false, 1, 0, true));
+        reportGenerationService.generateReport(participant1, LocalDateTime.of(2025, Month.AUGUST, 1, 0, 0), false);
+
+        verify(mockedAzureStorageService).upload(eq("reports/2025/8/report-participantName-2025-8.arrows"), any(AzureStorageService.ContentWriter.class), eq(ReportUtil.COLUMNAR_CONTENT_TYPE), isNull());
+        verify(mockedAzureStorageService).upload(eq("reports/2025/8/report-participantName-2025-8.csv"), any());
+        assertEquals(1, reportRepository.findAll().size());
+    }
+
+    private static String gunzip(byte[] content) {
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static void validateReport(Report report, ParticipantId participant1, int expected) {
         assertEquals("objectUrl", report.getCsvLink());
         assertEquals(participant1, report.getParticipant());
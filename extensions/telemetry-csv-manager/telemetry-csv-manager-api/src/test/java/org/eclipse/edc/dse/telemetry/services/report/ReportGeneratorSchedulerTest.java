@@ -1,7 +1,20 @@
 package org.eclipse.edc.dse.telemetry.services.report;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.eclipse.edc.dse.telemetry.model.ParticipantId;
+import org.eclipse.edc.dse.telemetry.model.Report;
+import org.eclipse.edc.dse.telemetry.model.TelemetryEvent;
+import org.eclipse.edc.dse.telemetry.model.ReportJob;
+import org.eclipse.edc.dse.telemetry.repository.ParticipantRepository;
+import org.eclipse.edc.dse.telemetry.repository.ReportJobRepository;
+import org.eclipse.edc.dse.telemetry.repository.ReportRepository;
+import org.eclipse.edc.dse.telemetry.repository.TelemetryEventRepository;
 import org.eclipse.edc.dse.telemetry.services.storage.AzureStorageService;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,22 +22,68 @@ import org.junit.jupiter.api.TestInstance;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.eclipse.edc.dse.telemetry.TestUtils.P1_DID;
+import static org.eclipse.edc.dse.telemetry.TestUtils.P2_DID;
+import static org.eclipse.edc.dse.telemetry.TestUtils.PARTICIPANT_NAME;
+import static org.eclipse.edc.dse.telemetry.TestUtils.PARTICIPANT_NAME_2;
+import static org.eclipse.edc.dse.telemetry.TestUtils.TEST_PERSISTENCE_UNIT;
+import static org.eclipse.edc.dse.telemetry.TestUtils.USER_EMAIL;
+import static org.eclipse.edc.dse.telemetry.TestUtils.USER_EMAIL_2;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class ReportGeneratorSchedulerTest {
 
     private static Monitor monitor;
     private static AzureStorageService azureStorageService;
+    private static EntityManagerFactory emf;
+    private static EntityManager em;
 
     @BeforeAll
     void setup() {
         monitor = mock(Monitor.class);
         azureStorageService = mock(AzureStorageService.class);
+        emf = Persistence.createEntityManagerFactory(TEST_PERSISTENCE_UNIT);
+        em = emf.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Reports depend on participants so reports should be deleted first to break the dependencies
+        em.clear();
+        ReportRepository reportRepository = new ReportRepository(em);
+        TelemetryEventRepository telemetryEventRepository = new TelemetryEventRepository(em);
+        ParticipantRepository participantRepository = new ParticipantRepository(em);
+        ReportJobRepository reportJobRepository = new ReportJobRepository(em);
+        em.getTransaction().begin();
+        reportJobRepository.findAll().forEach(reportJobRepository::delete);
+        reportRepository.findAll().forEach(reportRepository::delete);
+        telemetryEventRepository.findAll().forEach(telemetryEventRepository::delete);
+        participantRepository.findAll().forEach(participantRepository::delete);
+        em.getTransaction().commit();
+    }
+
+    @AfterAll
+    static void teardown() {
+        if (em != null && em.isOpen()) em.close();
+        if (emf != null && emf.isOpen()) emf.close();
     }
 
     @Test
@@ -61,4 +120,112 @@ class ReportGeneratorSchedulerTest {
 
         assertEquals(expected, delaySeconds);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should calculate correct delay until the next daily snapshot")
+    void shouldCalculateCorrectDailyDelay_WhenAfterDailyRunTime() {
+        // simulate now: 31st Oct, 03:00 AM
+        Clock fixedClock = Clock.fixed(
+                ZonedDateTime.of(2025, 10, 31, 3, 0, 0, 0, ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()
+        );
+
+        ReportGeneratorScheduler reportGeneratorScheduler = new ReportGeneratorScheduler(monitor, azureStorageService, fixedClock);
+
+        long delaySeconds = reportGeneratorScheduler.computeDelayUntilNextDailyRun();
+        // next day 1st Nov 01:00 => 22 hours
+        assertEquals(22 * 3600, delaySeconds);
+    }
+
+    @Test
+    @DisplayName("Should generate reports for remaining participants when one participant fails")
+    void shouldGenerateRemainingReports_WhenOneParticipantFails() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        ParticipantId participant2 = new ParticipantId(P2_DID, USER_EMAIL_2, PARTICIPANT_NAME_2);
+        em.persist(participant1);
+        em.persist(participant2);
+        em.persist(createTelemetryEvent(participant1, LocalDateTime.of(2025, Month.SEPTEMBER, 10, 12, 0)));
+        em.persist(createTelemetryEvent(participant2, LocalDateTime.of(2025, Month.SEPTEMBER, 10, 12, 2)));
+        em.getTransaction().commit();
+
+        AzureStorageService storage = mock(AzureStorageService.class);
+        doAnswer(c -> "objectUrl").when(storage).upload(any(), any());
+        doThrow(new RuntimeException("upload failed")).when(storage).upload(contains("-" + PARTICIPANT_NAME_2 + "-"), any());
+
+        Clock fixedClock = Clock.fixed(
+                ZonedDateTime.of(2025, 10, 2, 2, 0, 0, 0, ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()
+        );
+        ReportGeneratorScheduler reportGeneratorScheduler = new ReportGeneratorScheduler(monitor, storage, fixedClock,
+                new ReportGenerationConfig(2, true, false, false, 1, 0, false), emf::createEntityManager);
+
+        reportGeneratorScheduler.triggerGeneration();
+
+        em.clear();
+        List<Report> reports = new ReportRepository(em).findAll();
+        assertEquals(2, reports.stream().filter(r -> P1_DID.equals(r.getParticipant().getId())).count());
+        assertTrue(reports.stream().noneMatch(r -> P2_DID.equals(r.getParticipant().getId())));
+    }
+
+    @Test
+    @DisplayName("Should only regenerate the failed reports when the run is resumed")
+    void shouldSkipCompletedReports_WhenRunResumed() {
+        em.getTransaction().begin();
+        ParticipantId participant1 = new ParticipantId(P1_DID, USER_EMAIL, PARTICIPANT_NAME);
+        ParticipantId participant2 = new ParticipantId(P2_DID, USER_EMAIL_2, PARTICIPANT_NAME_2);
+        em.persist(participant1);
+        em.persist(participant2);
+        em.persist(createTelemetryEvent(participant1, LocalDateTime.of(2025, Month.SEPTEMBER, 10, 12, 0)));
+        em.persist(createTelemetryEvent(participant2, LocalDateTime.of(2025, Month.SEPTEMBER, 10, 12, 2)));
+        em.getTransaction().commit();
+
+        AtomicBoolean failParticipant2 = new AtomicBoolean(true);
+        AzureStorageService storage = mock(AzureStorageService.class);
+        doAnswer(c -> {
+            if (failParticipant2.get() && c.<String>getArgument(0).contains("-" + PARTICIPANT_NAME_2 + "-")) {
+                throw new RuntimeException("upload failed");
+            }
+            return "objectUrl";
+        }).when(storage).upload(any(), any());
+
+        Clock fixedClock = Clock.fixed(
+                ZonedDateTime.of(2025, 10, 2, 2, 0, 0, 0, ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault()
+        );
+        ReportGeneratorScheduler reportGeneratorScheduler = new ReportGeneratorScheduler(monitor, storage, fixedClock,
+                new ReportGenerationConfig(2, true, false, false, 1, 0, false), emf::createEntityManager);
+
+        reportGeneratorScheduler.triggerGeneration();
+        failParticipant2.set(false);
+        reportGeneratorScheduler.resumeIncompleteRun();
+
+        // Participants left over by other test classes sharing the database are generated too, so only ours are checked
+        em.clear();
+        List<String> participantIds = List.of(P1_DID, P2_DID);
+        assertEquals(4, new ReportRepository(em).findAll().stream().filter(r -> participantIds.contains(r.getParticipant().getId())).count());
+        List<ReportJob> jobs = new ReportJobRepository(em).findAll().stream().filter(j -> participantIds.contains(j.getParticipantId())).toList();
+        assertEquals(4, jobs.size());
+        assertTrue(jobs.stream().allMatch(ReportJob::isCompleted));
+        assertTrue(jobs.stream().filter(j -> P1_DID.equals(j.getParticipantId())).allMatch(j -> j.getAttempts() == 1));
+        assertTrue(jobs.stream().filter(j -> P2_DID.equals(j.getParticipantId())).allMatch(j -> j.getAttempts() == 2));
+        verify(storage, times(1)).upload(contains("-" + PARTICIPANT_NAME + "-"), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a concurrency limit lower than one")
+    void shouldReject_WhenConcurrencyLimitLowerThanOne() {
+        assertThrows(IllegalArgumentException.class, () -> new ReportGenerationConfig(0, true, false, false, 1, 0, false));
+    }
+
+    private static TelemetryEvent createTelemetryEvent(ParticipantId participant, LocalDateTime timestamp) {
+        TelemetryEvent telemetryEvent = new TelemetryEvent();
+        telemetryEvent.setId(UUID.randomUUID().toString());
+        telemetryEvent.setContractId("contract1");
+        telemetryEvent.setParticipant(participant);
+        telemetryEvent.setResponseStatusCode(200);
+        telemetryEvent.setMsgSize(159);
+        telemetryEvent.setTimestamp(timestamp);
+        return telemetryEvent;
+    }
+}
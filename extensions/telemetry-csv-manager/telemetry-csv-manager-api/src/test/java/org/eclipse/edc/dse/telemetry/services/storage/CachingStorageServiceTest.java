@@ -0,0 +1,166 @@
+package org.eclipse.edc.dse.telemetry.services.storage;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingStorageServiceTest {
+
+    private static final String PATH_1 = "reports/2025/8/report-participantName-2025-8.csv";
+    private static final String PATH_2 = "reports/2025/8/report-participantName2-2025-8.csv";
+    private static final String CONTENT = "contract_id,counterparty_name\ncontract1,participantName2\n";
+
+    @TempDir
+    private Path tempDir;
+
+    private AzureStorageService delegate;
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(AzureStorageService.class);
+        stubReport(PATH_1, "\"etag-1\"", CONTENT);
+        stubReport(PATH_2, "\"etag-2\"", CONTENT);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated downloads from the local copy")
+    void shouldServeFromLocalCopy_WhenReportAlreadyDownloaded() throws IOException {
+        CachingStorageService cache = cache(1024);
+
+        StoredObject first = cache.getProperties(PATH_1);
+        assertEquals(CONTENT, read(cache.download(PATH_1, 0, first.size(), first.eTag())));
+        StoredObject second = cache.getProperties(PATH_1);
+
+        assertEquals(first, second);
+        assertEquals(CONTENT, read(cache.download(PATH_1, 0, first.size(), first.eTag())));
+        assertEquals(CONTENT.substring(9, 20), read(cache.download(PATH_1, 9, 11, first.eTag())));
+        verify(delegate, times(2)).getProperties(PATH_1);
+        verify(delegate, times(2)).download(eq(PATH_1), anyLong(), anyLong(), eq("\"etag-1\""));
+    }
+
+    @Test
+    @DisplayName("Should not download the report when only its metadata is requested")
+    void shouldNotFillCache_WhenOnlyPropertiesRequested() {
+        CachingStorageService cache = cache(1024);
+
+        cache.getProperties(PATH_1);
+        cache.getProperties(PATH_1);
+
+        assertEquals(0, cache.cachedBytes());
+        verify(delegate, times(2)).getProperties(PATH_1);
+        verify(delegate, never()).download(eq(PATH_1), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used report when the capacity is exceeded")
+    void shouldEvictLeastRecentlyUsed_WhenCapacityExceeded() throws IOException {
+        CachingStorageService cache = cache(CONTENT.length() + 1);
+
+        read(download(cache, PATH_1));
+        read(download(cache, PATH_2));
+        read(download(cache, PATH_1));
+
+        assertEquals(CONTENT.length(), cache.cachedBytes());
+        verify(delegate, times(2)).getProperties(PATH_2);
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep an evicted report readable until its stream is closed")
+    void shouldReleaseEvictedReport_WhenLastStreamClosed() throws IOException {
+        CachingStorageService cache = cache(CONTENT.length() + 1);
+        read(download(cache, PATH_1));
+
+        // The evicted report still being read counts against the capacity, so the new one cannot be kept
+        InputStream reading = cache.download(PATH_1, 0, CONTENT.length(), "\"etag-1\"");
+        read(download(cache, PATH_2));
+
+        assertEquals(CONTENT.length(), cache.cachedBytes());
+        assertEquals(CONTENT, read(reading));
+        assertEquals(0, cache.cachedBytes());
+    }
+
+    @Test
+    @DisplayName("Should drop the local copy when the report is uploaded again")
+    void shouldInvalidateLocalCopy_WhenReportUploaded() throws IOException {
+        CachingStorageService cache = cache(1024);
+        when(delegate.upload(eq(PATH_1), any())).thenReturn("objectUrl");
+
+        read(download(cache, PATH_1));
+        cache.upload(PATH_1, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, cache.cachedBytes());
+        read(download(cache, PATH_1));
+        verify(delegate, times(4)).download(eq(PATH_1), eq(0L), eq((long) CONTENT.length()), eq("\"etag-1\""));
+    }
+
+    @Test
+    @DisplayName("Should serve the regenerated report after it is uploaded again at the same path")
+    void shouldServeRegeneratedReport_WhenReportRegeneratedAtSamePath() throws IOException {
+        CachingStorageService cache = cache(1024);
+        String regenerated = "contract_id,counterparty_name\ncontract2,participantName2\n";
+        when(delegate.upload(eq(PATH_1), any(AzureStorageService.ContentWriter.class), any(), any())).thenReturn("objectUrl");
+
+        assertEquals(CONTENT, read(download(cache, PATH_1)));
+        cache.upload(PATH_1, outputStream -> outputStream.write(regenerated.getBytes(StandardCharsets.UTF_8)), "text/csv", null);
+        stubReport(PATH_1, "\"etag-3\"", regenerated);
+
+        assertEquals(regenerated, read(download(cache, PATH_1)));
+        assertEquals(regenerated, read(download(cache, PATH_1)));
+        verify(delegate, times(2)).download(eq(PATH_1), anyLong(), anyLong(), eq("\"etag-3\""));
+    }
+
+    @Test
+    @DisplayName("Should not cache reports that do not exist")
+    void shouldReturnNull_WhenReportDoesNotExist() {
+        CachingStorageService cache = cache(1024);
+
+        assertNull(cache.getProperties("reports/2025/8/missing.csv"));
+        assertEquals(0, cache.cachedBytes());
+    }
+
+    // Loads run on the calling thread, so that the local copy exists as soon as the first download returns
+    private CachingStorageService cache(long maxBytes) {
+        return new CachingStorageService(mock(Monitor.class), delegate, tempDir, maxBytes, Runnable::run);
+    }
+
+    private static InputStream download(CachingStorageService cache, String path) {
+        StoredObject object = cache.getProperties(path);
+        return cache.download(path, 0, object.size(), object.eTag());
+    }
+
+    private void stubReport(String path, String eTag, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        when(delegate.getProperties(path)).thenReturn(new StoredObject(path, eTag, bytes.length));
+        when(delegate.download(eq(path), anyLong(), anyLong(), eq(eTag))).thenAnswer(invocation -> new ByteArrayInputStream(bytes));
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
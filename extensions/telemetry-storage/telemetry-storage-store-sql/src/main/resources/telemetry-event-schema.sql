@@ -46,3 +46,48 @@ id              varchar   not null
 CREATE INDEX IF NOT EXISTS idx_telemetry_event_participant_timestamp_contract
     ON telemetry_event (participant_did, timestamp, contract_id);
 
+
+CREATE TABLE IF NOT EXISTS daily_snapshot
+(
+    snapshot_day date      not null
+        constraint daily_snapshot_pk
+            primary key,
+    timestamp    timestamp default now() not null
+);
+
+CREATE TABLE IF NOT EXISTS daily_contract_stats
+(
+    id                   serial  not null
+        constraint daily_contract_stats_pk
+            primary key,
+    snapshot_day         date    not null,
+    participant_did      varchar not null
+        constraint daily_contract_stats_participant_did_fk
+            references participant_id (id)
+            on delete cascade,
+    contract_id          varchar not null,
+    response_status_code int     not null,
+    msg_size             bigint  not null,
+    event_count          bigint  not null,
+    constraint unique_day_participant_contract_status
+        unique (snapshot_day, participant_did, contract_id, response_status_code)
+);
+
+CREATE TABLE IF NOT EXISTS report_job
+(
+    id              serial    not null
+        constraint report_job_pk
+            primary key,
+    report_month    date      not null,
+    participant_did varchar   not null
+        constraint report_job_participant_did_fk
+            references participant_id (id)
+            on delete cascade,
+    flavour         varchar   not null,
+    status          varchar   not null,
+    attempts        int       not null,
+    last_error      varchar(1024) null,
+    timestamp       timestamp default now() not null,
+    constraint unique_report_month_participant_flavour
+        unique (report_month, participant_did, flavour)
+);
@@ -0,0 +1,17 @@
+-- ============================================================
+-- ROLLBACK: v0.17.0 → v0.16.0
+-- Target database: billingdb
+--
+-- The v0.16.0 binaries do not read these tables, so dropping them is not required for a
+-- rollback. Drop them only to remove the aggregated snapshots and the report job history.
+-- Reports and telemetry events are not affected.
+--
+-- Idempotent: safe to re-run.
+-- ============================================================
+BEGIN;
+
+DROP TABLE IF EXISTS report_job;
+DROP TABLE IF EXISTS daily_contract_stats;
+DROP TABLE IF EXISTS daily_snapshot;
+
+COMMIT;
@@ -0,0 +1,66 @@
+-- ============================================================
+-- v0.16.0 → v0.17.0: Telemetry database migration
+-- Target database: billingdb
+--
+-- Tables added:
+--   daily_snapshot        — closed days already aggregated for incremental monthly reports
+--   daily_contract_stats  — per-day contract stats merged into the monthly reports
+--   report_job            — checkpoints of the monthly report generation, used to resume failed runs
+--
+-- The telemetry storage creates these tables on startup through telemetry-event-schema.sql.
+-- This script creates them ahead of the upgrade for deployments whose schema is not
+-- bootstrapped by the runtime. The definitions are identical to telemetry-event-schema.sql.
+--
+-- MIGRATION STRATEGY: additive only. Existing tables are not modified.
+-- See rollback.sql for the reverse direction.
+--
+-- Idempotent: safe to re-run.
+-- ============================================================
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS daily_snapshot
+(
+    snapshot_day date      not null
+        constraint daily_snapshot_pk
+            primary key,
+    timestamp    timestamp default now() not null
+);
+
+CREATE TABLE IF NOT EXISTS daily_contract_stats
+(
+    id                   serial  not null
+        constraint daily_contract_stats_pk
+            primary key,
+    snapshot_day         date    not null,
+    participant_did      varchar not null
+        constraint daily_contract_stats_participant_did_fk
+            references participant_id (id)
+            on delete cascade,
+    contract_id          varchar not null,
+    response_status_code int     not null,
+    msg_size             bigint  not null,
+    event_count          bigint  not null,
+    constraint unique_day_participant_contract_status
+        unique (snapshot_day, participant_did, contract_id, response_status_code)
+);
+
+CREATE TABLE IF NOT EXISTS report_job
+(
+    id              serial    not null
+        constraint report_job_pk
+            primary key,
+    report_month    date      not null,
+    participant_did varchar   not null
+        constraint report_job_participant_did_fk
+            references participant_id (id)
+            on delete cascade,
+    flavour         varchar   not null,
+    status          varchar   not null,
+    attempts        int       not null,
+    last_error      varchar(1024) null,
+    timestamp       timestamp default now() not null,
+    constraint unique_report_month_participant_flavour
+        unique (report_month, participant_did, flavour)
+);
+
+COMMIT;